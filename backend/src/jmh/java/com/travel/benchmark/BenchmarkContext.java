@@ -0,0 +1,64 @@
+package com.travel.benchmark;
+
+import com.travel.TravelBookingApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Boots the application once per trial under the {@code bench} profile, against an H2 database
+ * seeded with {@code scale} tours and proportional users, bookings and reviews.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    @Param({"1000"})
+    public int scale;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(TravelBookingApplication.class)
+                .profiles("bench")
+                .properties("bench.scale=" + scale)
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Binds a private single-argument method of a service bean, so mappers such as {@code convertToDto}
+     * can be measured on their own.
+     */
+    public MethodHandle privateMethod(Object bean, String name, Class<?> returnType, Class<?> parameterType) {
+        Object target = AopProxyUtils.getSingletonTarget(bean);
+        if (target == null) {
+            target = bean;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(target.getClass(), MethodHandles.lookup());
+            return lookup.findVirtual(target.getClass(), name, MethodType.methodType(returnType, parameterType))
+                    .bindTo(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access " + target.getClass().getSimpleName() + "." + name, e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.travel.benchmark;
+
+import com.travel.dao.BookingDao;
+import com.travel.dao.ReviewDao;
+import com.travel.dao.TourDao;
+import com.travel.dao.UserDao;
+import com.travel.entity.Booking;
+import com.travel.entity.Review;
+import com.travel.entity.Tour;
+import com.travel.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the benchmark database with deterministic synthetic data. Runs before the application reports
+ * ready, so the tour catalog is warmed with the seeded tours.
+ */
+@Component
+@Profile("bench")
+@RequiredArgsConstructor
+public class BenchmarkDataSeeder implements ApplicationRunner {
+
+    static final int USERS_PER_TOUR = 2;
+    static final int BOOKINGS_PER_USER = 5;
+    static final int REVIEWS_PER_TOUR = 5;
+
+    static final String[] DESTINATIONS = {
+            "Paris", "Rome", "Kyoto", "Bali", "Cusco", "Reykjavik", "Cape Town", "Queenstown", "Marrakech",
+            "Banff", "Santorini", "Hanoi", "Lisbon", "Patagonia", "Zanzibar", "Istanbul", "Havana", "Kathmandu"
+    };
+    static final String[] THEMES = {
+            "Beach Escape", "Mountain Trek", "Food Tour", "Wildlife Safari", "City Walk", "Island Cruise",
+            "Cultural Heritage", "Glacier Hike", "Wine Tasting", "Desert Camp"
+    };
+    private static final String[] ADJECTIVES = {
+            "Classic", "Hidden", "Luxury", "Budget", "Family", "Sunset", "Wild", "Slow", "Grand", "Local"
+    };
+    private static final String[] INCLUSIONS = {
+            "Hotel", "Breakfast", "Guide", "Airport transfer", "Museum tickets", "Boat ride", "Dinner", "Insurance"
+    };
+
+    private final TourDao tourDao;
+    private final UserDao userDao;
+    private final BookingDao bookingDao;
+    private final ReviewDao reviewDao;
+
+    @Value("${bench.scale}")
+    private int scale;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Random random = new Random(42);
+
+        List<Tour> tours = new ArrayList<>(scale);
+        for (int i = 0; i < scale; i++) {
+            tours.add(tour(random));
+        }
+        tours = tourDao.saveAll(tours);
+
+        List<User> users = new ArrayList<>(scale * USERS_PER_TOUR);
+        for (int i = 0; i < scale * USERS_PER_TOUR; i++) {
+            users.add(user(i));
+        }
+        users = userDao.saveAll(users);
+
+        List<Booking> bookings = new ArrayList<>(users.size() * BOOKINGS_PER_USER);
+        for (User user : users) {
+            for (int i = 0; i < BOOKINGS_PER_USER; i++) {
+                bookings.add(booking(random, user, tours.get(random.nextInt(tours.size()))));
+            }
+        }
+        bookingDao.saveAll(bookings);
+
+        List<Review> reviews = new ArrayList<>(tours.size() * REVIEWS_PER_TOUR);
+        for (Tour tour : tours) {
+            for (int i = 0; i < REVIEWS_PER_TOUR; i++) {
+                Review review = new Review();
+                review.setUser(users.get(random.nextInt(users.size())));
+                review.setTour(tour);
+                review.setRating(1 + random.nextInt(5));
+                review.setComment("Synthetic review " + i + " for " + tour.getTitle());
+                reviews.add(review);
+                tour.setRatingSum(tour.getRatingSum() + review.getRating());
+                tour.setReviewCount(tour.getReviewCount() + 1);
+            }
+            tour.setRating((double) tour.getRatingSum() / tour.getReviewCount());
+        }
+        reviewDao.saveAll(reviews);
+        tourDao.saveAll(tours);
+    }
+
+    private static Tour tour(Random random) {
+        String destination = DESTINATIONS[random.nextInt(DESTINATIONS.length)];
+        String theme = THEMES[random.nextInt(THEMES.length)];
+
+        Tour tour = new Tour();
+        tour.setTitle(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + theme + " in " + destination);
+        tour.setDescription("A " + (3 + random.nextInt(12)) + " day " + theme.toLowerCase()
+                + " around " + destination + " with small groups and local guides.");
+        tour.setPrice(BigDecimal.valueOf(200 + random.nextInt(4800)));
+        tour.setDuration(1 + random.nextInt(21));
+        tour.setDestination(destination);
+        tour.setCategory(Tour.Category.values()[random.nextInt(Tour.Category.values().length)]);
+        tour.setDifficulty(Tour.Difficulty.values()[random.nextInt(Tour.Difficulty.values().length)]);
+        tour.setIncludes(new ArrayList<>(List.of(
+                INCLUSIONS[random.nextInt(INCLUSIONS.length)],
+                INCLUSIONS[random.nextInt(INCLUSIONS.length)])));
+        tour.setIsActive(random.nextInt(10) > 0);
+        return tour;
+    }
+
+    private static User user(int index) {
+        User user = new User();
+        user.setFirstName("Bench");
+        user.setLastName("User" + index);
+        user.setEmail("user" + index + "@bench.local");
+        user.setPassword("not-a-real-hash");
+        user.setRole(User.Role.USER);
+        user.setIsActive(true);
+        return user;
+    }
+
+    private static Booking booking(Random random, User user, Tour tour) {
+        LocalDate travelDate = LocalDate.now().plusDays(random.nextInt(365));
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setTour(tour);
+        booking.setBookingDate(LocalDate.now());
+        booking.setTravelDate(travelDate);
+        booking.setEndDate(travelDate.plusDays(tour.getDuration()));
+        booking.setGuests(1 + random.nextInt(4));
+        booking.setTotalAmount(tour.getPrice().multiply(BigDecimal.valueOf(booking.getGuests())));
+        booking.setStatus(Booking.BookingStatus.values()[random.nextInt(Booking.BookingStatus.values().length)]);
+        booking.setPaymentStatus(Booking.PaymentStatus.values()[random.nextInt(Booking.PaymentStatus.values().length)]);
+        booking.setPaymentMethod("CARD");
+        return booking;
+    }
+}
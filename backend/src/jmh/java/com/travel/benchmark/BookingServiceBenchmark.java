@@ -0,0 +1,68 @@
+package com.travel.benchmark;
+
+import com.travel.dao.UserDao;
+import com.travel.dto.BookingDto;
+import com.travel.entity.Booking;
+import com.travel.entity.User;
+import com.travel.service.BookingService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    private static final int MAPPED_BOOKINGS = 1000;
+
+    private BookingService bookingService;
+    private MethodHandle convertToDto;
+    private Long[] userIds;
+    private Booking[] bookings;
+    private int next;
+
+    @Setup
+    public void setUp(BenchmarkContext context) {
+        bookingService = context.bean(BookingService.class);
+        convertToDto = context.privateMethod(bookingService, "convertToDto", BookingDto.class, Booking.class);
+        userIds = context.bean(UserDao.class).findAll().stream().map(User::getId).toArray(Long[]::new);
+
+        EntityManager entityManager = context.bean(EntityManagerFactory.class).createEntityManager();
+        try {
+            bookings = entityManager
+                    .createQuery("SELECT b FROM Booking b JOIN FETCH b.user JOIN FETCH b.tour", Booking.class)
+                    .setMaxResults(MAPPED_BOOKINGS)
+                    .getResultList()
+                    .toArray(new Booking[0]);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<BookingDto> getUserBookings() {
+        return bookingService.getUserBookings(userIds[(next++ & Integer.MAX_VALUE) % userIds.length]);
+    }
+
+    @Benchmark
+    public BookingDto convertToDto() throws Throwable {
+        return (BookingDto) convertToDto.invoke(bookings[(next++ & Integer.MAX_VALUE) % bookings.length]);
+    }
+}
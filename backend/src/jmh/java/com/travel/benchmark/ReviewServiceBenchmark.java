@@ -0,0 +1,80 @@
+package com.travel.benchmark;
+
+import com.travel.dao.UserDao;
+import com.travel.dto.ReviewDto;
+import com.travel.dto.TourDto;
+import com.travel.entity.Review;
+import com.travel.entity.User;
+import com.travel.service.ReviewService;
+import com.travel.service.TourService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReviewServiceBenchmark {
+
+    private static final int MAPPED_REVIEWS = 1000;
+
+    private ReviewService reviewService;
+    private MethodHandle convertToDto;
+    private Long[] userIds;
+    private Long[] tourIds;
+    private Review[] reviews;
+    private int next;
+
+    @Setup
+    public void setUp(BenchmarkContext context) {
+        reviewService = context.bean(ReviewService.class);
+        convertToDto = context.privateMethod(reviewService, "convertToDto", ReviewDto.class, Review.class);
+        userIds = context.bean(UserDao.class).findAll().stream().map(User::getId).toArray(Long[]::new);
+        tourIds = context.bean(TourService.class).getAllActiveTours().stream().map(TourDto::getId).toArray(Long[]::new);
+
+        EntityManager entityManager = context.bean(EntityManagerFactory.class).createEntityManager();
+        try {
+            reviews = entityManager
+                    .createQuery("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.tour", Review.class)
+                    .setMaxResults(MAPPED_REVIEWS)
+                    .getResultList()
+                    .toArray(new Review[0]);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Includes the incremental rating update and the catalog refresh it triggers.
+     */
+    @Benchmark
+    public ReviewDto createReview() {
+        int i = next++ & Integer.MAX_VALUE;
+        ReviewDto review = new ReviewDto();
+        review.setUserId(userIds[i % userIds.length]);
+        review.setTourId(tourIds[i % tourIds.length]);
+        review.setRating(1 + i % 5);
+        review.setComment("Benchmark review " + i);
+        return reviewService.createReview(review);
+    }
+
+    @Benchmark
+    public ReviewDto convertToDto() throws Throwable {
+        return (ReviewDto) convertToDto.invoke(reviews[(next++ & Integer.MAX_VALUE) % reviews.length]);
+    }
+}
@@ -0,0 +1,60 @@
+package com.travel.benchmark;
+
+import com.travel.dao.TourDao;
+import com.travel.dto.TourDto;
+import com.travel.entity.Tour;
+import com.travel.service.TourService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TourServiceBenchmark {
+
+    private static final String[] QUERIES = {
+            "beach", "mountain trek", "paris", "food tour kyoto", "wild", "safari zanzibar", "glac", "wine lisbon"
+    };
+
+    private TourService tourService;
+    private MethodHandle convertToDto;
+    private Tour[] tours;
+    private int next;
+
+    @Setup
+    public void setUp(BenchmarkContext context) {
+        tourService = context.bean(TourService.class);
+        convertToDto = context.privateMethod(tourService, "convertToDto", TourDto.class, Tour.class);
+        tours = context.bean(TourDao.class).findAllWithIncludes().toArray(new Tour[0]);
+    }
+
+    @Benchmark
+    public List<TourDto> searchTours() {
+        return tourService.searchTours(QUERIES[(next++ & Integer.MAX_VALUE) % QUERIES.length], 0, 20);
+    }
+
+    @Benchmark
+    public List<TourDto> getAllActiveTours() {
+        return tourService.getAllActiveTours();
+    }
+
+    @Benchmark
+    public TourDto convertToDto() throws Throwable {
+        return (TourDto) convertToDto.invoke(tours[(next++ & Integer.MAX_VALUE) % tours.length]);
+    }
+}
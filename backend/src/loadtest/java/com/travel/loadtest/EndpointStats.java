@@ -0,0 +1,80 @@
+package com.travel.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters for one endpoint. 2xx/3xx responses count as ok, 4xx as
+ * rejected (duplicate wishlist entries, sold-out departures) and 5xx or I/O failures as errors.
+ * Every sample is also recorded into the optional parent, which aggregates the whole run.
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final EndpointStats parent;
+
+    EndpointStats() {
+        this(null);
+    }
+
+    EndpointStats(EndpointStats parent) {
+        this.parent = parent;
+    }
+
+    void record(long latencyNanos, int status) {
+        if (parent != null) {
+            parent.record(latencyNanos, status);
+        }
+        latencies.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+        if (status < 400) {
+            ok.increment();
+        } else if (status < 500) {
+            rejected.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    void failed() {
+        if (parent != null) {
+            parent.failed();
+        }
+        errors.increment();
+    }
+
+    Map<String, Object> summary(double elapsedSeconds) {
+        long requests = ok.sum() + rejected.sum() + errors.sum();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests);
+        summary.put("ok", ok.sum());
+        summary.put("rejected", rejected.sum());
+        summary.put("errors", errors.sum());
+        summary.put("throughputPerSecond", round(requests / elapsedSeconds));
+        summary.put("meanMs", round(latencies.getMean() / NANOS_PER_MILLI));
+        summary.put("p50Ms", percentile(50));
+        summary.put("p90Ms", percentile(90));
+        summary.put("p99Ms", percentile(99));
+        summary.put("p999Ms", percentile(99.9));
+        summary.put("maxMs", round(latencies.getMaxValue() / NANOS_PER_MILLI));
+        return summary;
+    }
+
+    private double percentile(double percentile) {
+        return round(latencies.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,231 @@
+package com.travel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeds users and tours through the public API and issues one request of the traffic mix at a time.
+ */
+final class LoadTestClient {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final String[] DESTINATIONS = {
+            "Paris", "Rome", "Kyoto", "Bali", "Cusco", "Reykjavik", "Cape Town", "Lisbon", "Hanoi", "Banff"
+    };
+    private static final String[] THEMES = {
+            "Beach Escape", "Mountain Trek", "Food Tour", "Wildlife Safari", "City Walk", "Island Cruise"
+    };
+    private static final String[] QUERIES = {
+            "beach", "mountain", "food tour", "paris", "kyoto food", "safari", "cruise", "lisb"
+    };
+
+    /**
+     * The request mix, weighted roughly like production traffic: mostly catalog reads, a few writes.
+     */
+    enum Operation {
+        BROWSE("GET /api/tours", 35, true),
+        TOUR_DETAIL("GET /api/tours/{id}", 15, true),
+        SEARCH("GET /api/tours/search", 20, true),
+        TOUR_REVIEWS("GET /api/reviews/tour/{tourId}", 8, true),
+        BOOK("POST /bookings", 8, false),
+        REVIEW("POST /api/reviews", 5, false),
+        WISHLIST_CHECK("GET /api/wishlist/check/{tourId}", 6, false),
+        WISHLIST_ADD("POST /api/wishlist/add", 3, false);
+
+        private final String endpoint;
+        private final int weight;
+        private final boolean browsing;
+
+        Operation(String endpoint, int weight, boolean browsing) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+            this.browsing = browsing;
+        }
+
+        String endpoint() {
+            return endpoint;
+        }
+
+        /**
+         * {@code all} is the full weighted mix, {@code browse} only the catalog reads and
+         * {@code booking} only booking creation.
+         */
+        static List<Operation> mix(String name) {
+            return switch (name) {
+                case "all" -> List.of(values());
+                case "browse" -> Arrays.stream(values()).filter(operation -> operation.browsing).toList();
+                case "booking" -> List.of(BOOK);
+                default -> throw new IllegalArgumentException("Unknown mix " + name + ", expected all, browse or booking");
+            };
+        }
+
+        static Operation pick(List<Operation> mix, Random random) {
+            int total = 0;
+            for (Operation operation : mix) {
+                total += operation.weight;
+            }
+            int ticket = random.nextInt(total);
+            for (Operation operation : mix) {
+                ticket -= operation.weight;
+                if (ticket < 0) {
+                    return operation;
+                }
+            }
+            return mix.get(0);
+        }
+    }
+
+    private record Session(long userId, String token) {
+    }
+
+    private final String baseUrl;
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper json = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final List<Session> sessions = new ArrayList<>();
+    private final List<Long> tourIds = new ArrayList<>();
+
+    LoadTestClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    void seed(int users, int tours) throws IOException, InterruptedException {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        Random random = new Random(42);
+        for (int i = 0; i < users; i++) {
+            String email = "loadtest-" + run + "-" + i + "@example.com";
+            Map<String, Object> registration = new LinkedHashMap<>();
+            registration.put("firstName", "Load");
+            registration.put("lastName", "Tester" + i);
+            registration.put("email", email);
+            registration.put("password", PASSWORD);
+            send(post("/api/auth/register", registration, null));
+
+            JsonNode login = send(post("/api/auth/login", Map.of("email", email, "password", PASSWORD), null));
+            sessions.add(new Session(login.path("user").path("id").asLong(), login.path("token").asText()));
+        }
+
+        String token = sessions.get(0).token();
+        for (int i = 0; i < tours; i++) {
+            String destination = DESTINATIONS[random.nextInt(DESTINATIONS.length)];
+            String theme = THEMES[random.nextInt(THEMES.length)];
+            Map<String, Object> tour = new LinkedHashMap<>();
+            tour.put("title", theme + " in " + destination + " #" + i);
+            tour.put("description", "A " + theme.toLowerCase() + " around " + destination + " with local guides.");
+            tour.put("price", BigDecimal.valueOf(200 + random.nextInt(3000)));
+            tour.put("duration", 1 + random.nextInt(14));
+            tour.put("destination", destination);
+            tour.put("category", "CITY");
+            tour.put("includes", List.of("Hotel", "Guide"));
+            tour.put("maxGroupSize", 20);
+            tour.put("difficulty", "EASY");
+            tour.put("isActive", true);
+            tourIds.add(send(post("/api/tours", tour, token)).path("id").asLong());
+        }
+    }
+
+    /**
+     * Issues one request and records it; returns normally on HTTP errors so the caller keeps going.
+     */
+    void execute(Operation operation, Random random, EndpointStats stats) throws InterruptedException {
+        Session session = sessions.get(random.nextInt(sessions.size()));
+        long tourId = tourIds.get(random.nextInt(tourIds.size()));
+        HttpRequest request = request(operation, session, tourId, random);
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            stats.record(System.nanoTime() - start, response.statusCode());
+        } catch (IOException e) {
+            stats.failed();
+        }
+    }
+
+    private HttpRequest request(Operation operation, Session session, long tourId, Random random) {
+        String token = session.token();
+        return switch (operation) {
+            case BROWSE -> get("/api/tours", token);
+            case TOUR_DETAIL -> get("/api/tours/" + tourId, token);
+            case SEARCH -> get("/api/tours/search?query="
+                    + URLEncoder.encode(QUERIES[random.nextInt(QUERIES.length)], StandardCharsets.UTF_8), token);
+            case TOUR_REVIEWS -> get("/api/reviews/tour/" + tourId, token);
+            case BOOK -> {
+                LocalDate travelDate = LocalDate.now().plusDays(1 + random.nextInt(180));
+                int guests = 1 + random.nextInt(4);
+                Map<String, Object> booking = new LinkedHashMap<>();
+                booking.put("userId", session.userId());
+                booking.put("tourId", tourId);
+                booking.put("travelDate", travelDate);
+                booking.put("endDate", travelDate.plusDays(3));
+                booking.put("guests", guests);
+                booking.put("totalAmount", BigDecimal.valueOf(500L * guests));
+                booking.put("paymentMethod", "CARD");
+                yield post("/bookings", booking, token);
+            }
+            case REVIEW -> post("/api/reviews", Map.of(
+                    "userId", session.userId(),
+                    "tourId", tourId,
+                    "rating", 1 + random.nextInt(5),
+                    "comment", "Load test review"), token);
+            case WISHLIST_CHECK -> get("/api/wishlist/check/" + tourId, token);
+            case WISHLIST_ADD -> HttpRequest.newBuilder(uri("/api/wishlist/add?userId=" + session.userId() + "&tourId=" + tourId))
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        };
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        try {
+            return builder.POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body))).build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot serialize request body for " + path, e);
+        }
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding request " + request.uri() + " failed with HTTP "
+                    + response.statusCode() + ": " + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return json.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
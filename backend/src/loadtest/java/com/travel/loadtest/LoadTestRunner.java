@@ -0,0 +1,221 @@
+package com.travel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.TravelBookingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load generator. Unless {@code --base-url} points at a running server, it boots the
+ * application under the {@code loadtest} profile (in-memory H2), seeds users and tours over the API,
+ * drives the {@link LoadTestClient.Operation} mix and writes per-endpoint latency percentiles and
+ * throughput to a JSON report. With {@code --baseline} the run is compared against an earlier report
+ * and the process exits with status 1 if any endpoint regressed by more than {@code --max-regression}.
+ *
+ * <p>{@code --concurrency-steps} runs the mix once per concurrency level and reports the highest
+ * throughput that kept p99 under {@code --slo-p99-ms} without errors, which is how the platform and
+ * virtual thread modes ({@code --virtual-threads=true}) are compared.
+ *
+ * <pre>
+ * --duration=60 --warmup=10 --concurrency=32 --users=50 --tours=200 --mix=all|browse|booking
+ * --concurrency-steps=16,64,256,1024 --slo-p99-ms=250 --virtual-threads=false
+ * --report=target/loadtest-report.json --baseline=path/to/previous.json --max-regression=0.2
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        Path reportPath = Path.of(options.getOrDefault("report", "target/loadtest-report.json"));
+        double maxRegression = Double.parseDouble(options.getOrDefault("max-regression", "0.2"));
+        double sloP99Millis = Double.parseDouble(options.getOrDefault("slo-p99-ms", "250"));
+        List<LoadTestClient.Operation> mix = LoadTestClient.Operation.mix(options.getOrDefault("mix", "all"));
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("base-url");
+        if (baseUrl == null) {
+            String virtualThreads = options.getOrDefault("virtual-threads", "false");
+            context = new SpringApplicationBuilder(TravelBookingApplication.class)
+                    .profiles("loadtest")
+                    .properties("spring.threads.virtual.enabled=" + virtualThreads)
+                    .run();
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        boolean regressed = false;
+        try {
+            LoadTestClient client = new LoadTestClient(baseUrl);
+            client.seed(Integer.parseInt(options.getOrDefault("users", "50")),
+                    Integer.parseInt(options.getOrDefault("tours", "200")));
+
+            drive(client, mix, concurrency, warmup, new EndpointStats());
+            EndpointStats total = new EndpointStats();
+            Map<LoadTestClient.Operation, EndpointStats> stats = drive(client, mix, concurrency, duration, total);
+
+            Map<String, Object> report = report(stats, concurrency, duration);
+            report.put("mix", options.getOrDefault("mix", "all"));
+            report.put("total", total.summary(duration.toMillis() / 1000.0));
+            if (options.containsKey("concurrency-steps")) {
+                report.put("steps", steps(client, mix, options.get("concurrency-steps"), duration, sloP99Millis, report));
+            }
+            ObjectMapper json = new ObjectMapper();
+            if (reportPath.getParent() != null) {
+                Files.createDirectories(reportPath.getParent());
+            }
+            json.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+            System.out.println("Load test report written to " + reportPath.toAbsolutePath());
+            print(report);
+
+            if (options.containsKey("baseline")) {
+                JsonNode baseline = json.readTree(Path.of(options.get("baseline")).toFile());
+                regressed = compare(baseline, json.valueToTree(report), maxRegression);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    private static List<Map<String, Object>> steps(LoadTestClient client, List<LoadTestClient.Operation> mix,
+                                                   String levels, Duration duration, double sloP99Millis,
+                                                   Map<String, Object> report) throws InterruptedException {
+        List<Map<String, Object>> steps = new ArrayList<>();
+        double maxSustainable = 0;
+        for (String level : levels.split(",")) {
+            int concurrency = Integer.parseInt(level.trim());
+            EndpointStats total = new EndpointStats();
+            drive(client, mix, concurrency, duration, total);
+
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("concurrency", concurrency);
+            step.putAll(total.summary(duration.toMillis() / 1000.0));
+            boolean sustainable = ((Number) step.get("errors")).longValue() == 0
+                    && ((Number) step.get("p99Ms")).doubleValue() <= sloP99Millis;
+            step.put("withinSlo", sustainable);
+            if (sustainable) {
+                maxSustainable = Math.max(maxSustainable, ((Number) step.get("throughputPerSecond")).doubleValue());
+            }
+            steps.add(step);
+            System.out.printf("concurrency %5d: %10s req/s, p99 %s ms%s%n", concurrency,
+                    step.get("throughputPerSecond"), step.get("p99Ms"), sustainable ? "" : " (over SLO)");
+        }
+        report.put("sloP99Ms", sloP99Millis);
+        report.put("maxSustainableRps", maxSustainable);
+        System.out.println("Max sustainable throughput: " + maxSustainable + " req/s");
+        return steps;
+    }
+
+    private static Map<LoadTestClient.Operation, EndpointStats> drive(
+            LoadTestClient client, List<LoadTestClient.Operation> mix, int concurrency, Duration duration,
+            EndpointStats total) throws InterruptedException {
+        Map<LoadTestClient.Operation, EndpointStats> stats = new EnumMap<>(LoadTestClient.Operation.class);
+        for (LoadTestClient.Operation operation : mix) {
+            stats.put(operation, new EndpointStats(total));
+        }
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    while (System.nanoTime() < deadline) {
+                        LoadTestClient.Operation operation = LoadTestClient.Operation.pick(mix, random);
+                        client.execute(operation, random, stats.get(operation));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        return stats;
+    }
+
+    private static Map<String, Object> report(Map<LoadTestClient.Operation, EndpointStats> stats,
+                                              int concurrency, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((operation, endpointStats) -> endpoints.put(operation.endpoint(), endpointStats.summary(seconds)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("durationSeconds", seconds);
+        report.put("concurrency", concurrency);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report) {
+        System.out.printf("%-36s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        ((Map<String, Map<String, Object>>) report.get("endpoints")).forEach((endpoint, summary) ->
+                System.out.printf("%-36s %10s %8s %10s %10s %10s %10s%n", endpoint,
+                        summary.get("throughputPerSecond"), summary.get("errors"), summary.get("p50Ms"),
+                        summary.get("p99Ms"), summary.get("p999Ms"), summary.get("maxMs")));
+    }
+
+    private static boolean compare(JsonNode baseline, JsonNode current, double maxRegression) {
+        List<String> regressions = new ArrayList<>();
+        current.path("endpoints").fields().forEachRemaining(entry -> {
+            JsonNode before = baseline.path("endpoints").path(entry.getKey());
+            if (before.isMissingNode()) {
+                return;
+            }
+            JsonNode after = entry.getValue();
+            double p99Before = before.path("p99Ms").asDouble();
+            double p99After = after.path("p99Ms").asDouble();
+            double throughputBefore = before.path("throughputPerSecond").asDouble();
+            double throughputAfter = after.path("throughputPerSecond").asDouble();
+            if (p99Before > 0 && p99After > p99Before * (1 + maxRegression)) {
+                regressions.add(String.format("%s p99 %.3f ms -> %.3f ms", entry.getKey(), p99Before, p99After));
+            }
+            if (throughputAfter < throughputBefore * (1 - maxRegression)) {
+                regressions.add(String.format("%s throughput %.1f/s -> %.1f/s",
+                        entry.getKey(), throughputBefore, throughputAfter));
+            }
+        });
+        regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+        return !regressions.isEmpty();
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,136 @@
+package com.travel.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded Caffeine cache in front of an optional, usually shared, second-level cache.
+ * Reads fall through L1 to L2 and promote L2 hits into L1; writes and evictions go to both tiers.
+ */
+public class TwoTierCache implements Cache {
+
+    private final CaffeineCache l1;
+    private final Cache l2;
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TwoTierCache(CaffeineCache l1, Cache l2) {
+        this.l1 = l1;
+        this.l2 = l2;
+    }
+
+    @Override
+    public String getName() {
+        return l1.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = l1.get(key);
+        if (value != null || l2 == null) {
+            return value;
+        }
+        value = l2.get(key);
+        if (value == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        l1.put(key, value.get());
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object stored = value != null ? value.get() : null;
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return l1.get(key, () -> {
+            if (l2 == null) {
+                return valueLoader.call();
+            }
+            ValueWrapper shared = l2.get(key);
+            if (shared != null) {
+                l2Hits.increment();
+                @SuppressWarnings("unchecked")
+                T value = (T) shared.get();
+                return value;
+            }
+            l2Misses.increment();
+            T value = valueLoader.call();
+            l2.put(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l1.put(key, value);
+        if (l2 != null) {
+            l2.put(key, value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.increment();
+        l1.evict(key);
+        if (l2 != null) {
+            l2.evict(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictions.increment();
+        l1.clear();
+        if (l2 != null) {
+            l2.clear();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats l1Stats = l1.getNativeCache().stats();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", l1.getNativeCache().estimatedSize());
+        stats.put("l1Hits", l1Stats.hitCount());
+        stats.put("l1Misses", l1Stats.missCount());
+        stats.put("l1HitRate", l1Stats.hitRate());
+        stats.put("l1Evictions", l1Stats.evictionCount());
+        stats.put("l2Enabled", l2 != null);
+        stats.put("l2Hits", l2Hits.sum());
+        stats.put("l2Misses", l2Misses.sum());
+        stats.put("explicitEvictions", evictions.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,60 @@
+package com.travel.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates a {@link TwoTierCache} per cache name on first use. The second level is any Spring
+ * {@link CacheManager} (Redis, Hazelcast, an in-process map for tests) or {@code null} for L1 only.
+ * Puts and evictions issued inside a transaction are applied after it commits.
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final long maximumSize;
+    private final Duration timeToLive;
+    private final CacheManager secondLevel;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(long maximumSize, Duration timeToLive, CacheManager secondLevel) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.secondLevel = secondLevel;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    private TwoTierCache createCache(String name) {
+        CaffeineCache l1 = new CaffeineCache(name, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build());
+        Cache l2 = secondLevel != null ? secondLevel.getCache(name) : null;
+        return new TwoTierCache(l1, l2);
+    }
+}
@@ -0,0 +1,121 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Holds the current {@link TourCatalogSnapshot}. Readers never lock; writers are serialized
+ * and publish a freshly built snapshot with a single volatile write (copy-on-write).
+ * Registered {@link TourIndex} beans are updated under the same writer lock.
+ * Every publish also advances {@link #version()}, which the catalog endpoints use as their ETag.
+ */
+@Component
+@RequiredArgsConstructor
+public class TourCatalog {
+
+    private final List<TourIndex> indexes;
+
+    private final long epoch = System.currentTimeMillis();
+
+    private volatile TourCatalogSnapshot snapshot;
+    private volatile long version;
+    private volatile long lastModified = epoch;
+
+    // Tombstones for deleted tours, so an upsert read before the delete cannot bring one back. Guarded by this.
+    private final Set<Long> removed = new HashSet<>();
+
+    public TourCatalogSnapshot snapshot(Supplier<Collection<TourDto>> loader) {
+        TourCatalogSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                load(loader.get());
+            }
+            return snapshot;
+        }
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Opaque token that changes whenever the catalog, or content derived from it, changes. The token starts with
+     * the instance start time, so validators issued before a restart or by another instance never match.
+     */
+    public String version() {
+        return Long.toString(epoch, 36) + "-" + Long.toString(version, 36);
+    }
+
+    public long lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Advances the version without replacing any tour, for changes to content served alongside the catalog.
+     */
+    public synchronized void touch() {
+        changed();
+    }
+
+    /**
+     * Reloads every tour. The loader runs under the writer lock: an upsert that commits while it reads waits and
+     * is then checked against the fresh copies, instead of being overwritten by an older one.
+     */
+    public synchronized void replaceAll(Supplier<Collection<TourDto>> loader) {
+        load(loader.get());
+    }
+
+    /**
+     * Replaces one tour. Change events are delivered after commit on whichever thread committed, so two updates
+     * of the same tour can arrive out of order; a copy read at an older entity version than the cached one is
+     * dropped, and so is any copy of a tour that has been removed, since tour ids are never reused.
+     */
+    public synchronized void upsert(TourDto tour) {
+        if (snapshot != null) {
+            if (removed.contains(tour.getId()) || isOlderThanCached(tour)) {
+                return;
+            }
+            snapshot = snapshot.withTour(tour);
+            indexes.forEach(index -> index.upsert(tour));
+            changed();
+        }
+    }
+
+    public synchronized void remove(Long tourId) {
+        removed.add(tourId);
+        if (snapshot != null) {
+            snapshot = snapshot.withoutTour(tourId);
+            indexes.forEach(index -> index.remove(tourId));
+            changed();
+        }
+    }
+
+    private boolean isOlderThanCached(TourDto tour) {
+        TourDto cached = snapshot.findById(tour.getId());
+        return cached != null && cached.getVersion() != null && tour.getVersion() != null
+                && tour.getVersion() < cached.getVersion();
+    }
+
+    private void load(Collection<TourDto> tours) {
+        TourCatalogSnapshot loaded = TourCatalogSnapshot.of(removed.isEmpty() ? tours
+                : tours.stream().filter(tour -> !removed.contains(tour.getId())).toList());
+        indexes.forEach(index -> index.rebuild(loaded.getAll()));
+        snapshot = loaded;
+        changed();
+    }
+
+    private void changed() {
+        version++;
+        lastModified = System.currentTimeMillis();
+    }
+}
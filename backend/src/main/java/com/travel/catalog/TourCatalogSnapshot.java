@@ -0,0 +1,215 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import com.travel.entity.Tour;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, pre-indexed view of the whole tour catalog. Instances are never modified;
+ * {@link #withTour(TourDto)} and {@link #withoutTour(Long)} return a new snapshot.
+ * The contained {@link TourDto}s are shared between requests and must be treated as read-only.
+ */
+public final class TourCatalogSnapshot {
+
+    private static final Comparator<TourDto> BY_ID =
+            Comparator.comparing(TourDto::getId);
+    private static final Comparator<TourDto> BY_PRICE =
+            Comparator.comparing(TourDto::getPrice, Comparator.nullsLast(Comparator.naturalOrder())).thenComparing(BY_ID);
+    private static final Comparator<TourDto> BY_DURATION =
+            Comparator.comparing(TourDto::getDuration, Comparator.nullsLast(Comparator.naturalOrder())).thenComparing(BY_ID);
+
+    private final Map<Long, TourDto> byId;
+    private final List<TourDto> all;
+    private final List<TourDto> active;
+    private final Map<Tour.Category, List<TourDto>> byCategory;
+    private final Map<Tour.Difficulty, List<TourDto>> byDifficulty;
+    private final Map<String, List<TourDto>> byDestination;
+    private final List<TourDto> byPrice;
+    private final List<TourDto> byDuration;
+
+    private TourCatalogSnapshot(Collection<TourDto> tours) {
+        List<TourDto> sorted = new ArrayList<>(tours);
+        sorted.sort(BY_ID);
+
+        Map<Long, TourDto> ids = new LinkedHashMap<>();
+        sorted.forEach(tour -> ids.put(tour.getId(), tour));
+
+        this.byId = Collections.unmodifiableMap(ids);
+        this.all = List.copyOf(sorted);
+        this.active = sorted.stream()
+                .filter(tour -> Boolean.TRUE.equals(tour.getIsActive()))
+                .toList();
+        this.byCategory = group(sorted, TourDto::getCategory, new EnumMap<>(Tour.Category.class));
+        this.byDifficulty = group(sorted, TourDto::getDifficulty, new EnumMap<>(Tour.Difficulty.class));
+        this.byDestination = group(sorted, TourDto::getDestination, new HashMap<>());
+        this.byPrice = sorted.stream().filter(tour -> tour.getPrice() != null).sorted(BY_PRICE).toList();
+        this.byDuration = sorted.stream().filter(tour -> tour.getDuration() != null).sorted(BY_DURATION).toList();
+    }
+
+    private TourCatalogSnapshot(TourCatalogSnapshot base, TourDto previous, TourDto tour) {
+        Map<Long, TourDto> ids = new HashMap<>(base.byId);
+        if (tour != null) {
+            ids.put(tour.getId(), tour);
+        } else {
+            ids.remove(previous.getId());
+        }
+
+        this.byId = Collections.unmodifiableMap(ids);
+        this.all = replace(base.all, previous, tour, BY_ID, t -> true);
+        this.active = replace(base.active, previous, tour, BY_ID, t -> Boolean.TRUE.equals(t.getIsActive()));
+        this.byCategory = regroup(base.byCategory, previous, tour, TourDto::getCategory, () -> new EnumMap<>(Tour.Category.class));
+        this.byDifficulty = regroup(base.byDifficulty, previous, tour, TourDto::getDifficulty, () -> new EnumMap<>(Tour.Difficulty.class));
+        this.byDestination = regroup(base.byDestination, previous, tour, TourDto::getDestination, HashMap::new);
+        this.byPrice = replace(base.byPrice, previous, tour, BY_PRICE, t -> t.getPrice() != null);
+        this.byDuration = replace(base.byDuration, previous, tour, BY_DURATION, t -> t.getDuration() != null);
+    }
+
+    public static TourCatalogSnapshot of(Collection<TourDto> tours) {
+        return new TourCatalogSnapshot(tours);
+    }
+
+    /**
+     * Copies the sorted lists with the one tour moved by binary search, and rebuilds only the groups it leaves or
+     * joins; every other group list is shared with this snapshot.
+     */
+    public TourCatalogSnapshot withTour(TourDto tour) {
+        return new TourCatalogSnapshot(this, byId.get(tour.getId()), tour);
+    }
+
+    public TourCatalogSnapshot withoutTour(Long id) {
+        TourDto previous = byId.get(id);
+        if (previous == null) {
+            return this;
+        }
+        return new TourCatalogSnapshot(this, previous, null);
+    }
+
+    public TourDto findById(Long id) {
+        return byId.get(id);
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    public List<TourDto> getAll() {
+        return all;
+    }
+
+    /**
+     * Returns up to {@code limit} tours with an id greater than {@code afterId}, in id order.
+     */
+    public List<TourDto> getAllAfter(Long afterId, int limit) {
+        int from = lowerBound(all, tour -> tour.getId() > afterId ? 1 : -1);
+        return all.subList(from, Math.min(all.size(), from + limit));
+    }
+
+    public List<TourDto> getActive() {
+        return active;
+    }
+
+    public List<TourDto> getByCategory(Tour.Category category) {
+        return byCategory.getOrDefault(category, List.of());
+    }
+
+    public List<TourDto> getByDifficulty(Tour.Difficulty difficulty) {
+        return byDifficulty.getOrDefault(difficulty, List.of());
+    }
+
+    public List<TourDto> getByDestination(String destination) {
+        return byDestination.getOrDefault(destination, List.of());
+    }
+
+    public List<TourDto> getByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        int from = lowerBound(byPrice, tour -> tour.getPrice().compareTo(minPrice));
+        int to = lowerBound(byPrice, tour -> tour.getPrice().compareTo(maxPrice) > 0 ? 1 : -1);
+        return from < to ? byPrice.subList(from, to) : List.of();
+    }
+
+    public List<TourDto> getByDurationRange(Integer minDuration, Integer maxDuration) {
+        int from = lowerBound(byDuration, tour -> tour.getDuration().compareTo(minDuration));
+        int to = lowerBound(byDuration, tour -> tour.getDuration().compareTo(maxDuration) > 0 ? 1 : -1);
+        return from < to ? byDuration.subList(from, to) : List.of();
+    }
+
+    // First index whose element compares >= 0 against the probe; the list must be sorted on the probed key.
+    private static int lowerBound(List<TourDto> tours, Function<TourDto, Integer> probe) {
+        int low = 0;
+        int high = tours.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (probe.apply(tours.get(mid)) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // The list must be sorted by the comparator, which ends on the id, so each tour has exactly one position.
+    private static List<TourDto> replace(List<TourDto> tours, TourDto previous, TourDto tour,
+                                         Comparator<TourDto> order, Predicate<TourDto> member) {
+        boolean removes = previous != null && member.test(previous);
+        boolean adds = tour != null && member.test(tour);
+        if (!removes && !adds) {
+            return tours;
+        }
+        List<TourDto> copy = new ArrayList<>(tours.size() + 1);
+        copy.addAll(tours);
+        if (removes) {
+            copy.remove(Collections.binarySearch(copy, previous, order));
+        }
+        if (adds) {
+            copy.add(-Collections.binarySearch(copy, tour, order) - 1, tour);
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static <K> Map<K, List<TourDto>> regroup(Map<K, List<TourDto>> groups, TourDto previous, TourDto tour,
+                                                     Function<TourDto, K> key, Supplier<Map<K, List<TourDto>>> target) {
+        K previousKey = previous != null ? key.apply(previous) : null;
+        K tourKey = tour != null ? key.apply(tour) : null;
+        Map<K, List<TourDto>> copy = target.get();
+        copy.putAll(groups);
+        if (previousKey != null) {
+            List<TourDto> group = replace(groups.get(previousKey), previous, null, BY_ID, t -> true);
+            if (group.isEmpty()) {
+                copy.remove(previousKey);
+            } else {
+                copy.put(previousKey, group);
+            }
+        }
+        if (tourKey != null) {
+            copy.put(tourKey, replace(copy.getOrDefault(tourKey, List.of()), null, tour, BY_ID, t -> true));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static <K> Map<K, List<TourDto>> group(List<TourDto> tours, Function<TourDto, K> key, Map<K, List<TourDto>> target) {
+        tours.stream()
+                .filter(tour -> key.apply(tour) != null)
+                .collect(Collectors.groupingBy(key, LinkedHashMap::new, Collectors.toList()))
+                .forEach((value, group) -> target.put(value, List.copyOf(group)));
+        return Collections.unmodifiableMap(target);
+    }
+
+    @Override
+    public String toString() {
+        return "TourCatalogSnapshot[size=" + size() + ", active=" + active.size() + "]";
+    }
+}
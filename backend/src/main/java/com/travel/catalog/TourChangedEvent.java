@@ -0,0 +1,13 @@
+package com.travel.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the tour write paths; listeners refresh in-memory catalog state once the write has committed.
+ */
+@Getter
+@AllArgsConstructor
+public class TourChangedEvent {
+    private final Long tourId;
+}
@@ -0,0 +1,213 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant destination lookup using symmetric deletes (SymSpell). Every normalized destination is
+ * registered under all strings obtained by deleting up to {@value #MAX_DISTANCE} characters from its first
+ * {@value #PREFIX_LENGTH} characters. A lookup generates the same deletes for the input and verifies the few
+ * candidates it finds with an edit distance, so its cost depends on the input length, not on the catalog size.
+ */
+@Component
+public class TourDestinationIndex implements TourIndex {
+
+    private static final int MAX_DISTANCE = 2;
+    private static final int SHORT_WORD_LENGTH = 4;
+    private static final int PREFIX_LENGTH = 7;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String> destinationOf = new HashMap<>();
+    // normalized destination -> spelling as stored on the tours -> number of tours
+    private final Map<String, Map<String, Integer>> spellings = new HashMap<>();
+    private final Map<String, Set<String>> deletes = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<TourDto> tours) {
+        lock.writeLock().lock();
+        try {
+            destinationOf.clear();
+            spellings.clear();
+            deletes.clear();
+            tours.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(TourDto tour) {
+        lock.writeLock().lock();
+        try {
+            delete(tour.getId());
+            add(tour);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long tourId) {
+        lock.writeLock().lock();
+        try {
+            delete(tourId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the stored spellings of the destination closest to {@code destination}: the normalized exact match
+     * if there is one, otherwise the nearest destination within the edit distance limit, preferring the one with
+     * more tours. Empty if nothing is close enough.
+     */
+    public List<String> resolve(String destination) {
+        String input = TextNormalizer.normalize(destination);
+        if (input.isEmpty()) {
+            return List.of();
+        }
+        int maxDistance = input.length() <= SHORT_WORD_LENGTH ? 1 : MAX_DISTANCE;
+
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> exact = spellings.get(input);
+            if (exact != null) {
+                return List.copyOf(exact.keySet());
+            }
+
+            String best = null;
+            int bestDistance = Integer.MAX_VALUE;
+            int bestCount = 0;
+            Set<String> checked = new HashSet<>();
+            for (String candidate : deletesOf(prefix(input), maxDistance)) {
+                for (String key : deletes.getOrDefault(candidate, Set.of())) {
+                    if (!checked.add(key) || Math.abs(key.length() - input.length()) > maxDistance) {
+                        continue;
+                    }
+                    int distance = distance(input, key, maxDistance);
+                    int count = tourCount(key);
+                    if (distance < bestDistance || (distance == bestDistance
+                            && (count > bestCount || (count == bestCount && key.compareTo(best) < 0)))) {
+                        best = key;
+                        bestDistance = distance;
+                        bestCount = count;
+                    }
+                }
+            }
+            return best != null && bestDistance <= maxDistance ? List.copyOf(spellings.get(best).keySet()) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(TourDto tour) {
+        String key = TextNormalizer.normalize(tour.getDestination());
+        if (key.isEmpty()) {
+            return;
+        }
+        destinationOf.put(tour.getId(), tour.getDestination());
+        Map<String, Integer> variants = spellings.get(key);
+        if (variants == null) {
+            variants = new TreeMap<>();
+            spellings.put(key, variants);
+            for (String deleted : deletesOf(prefix(key), MAX_DISTANCE)) {
+                deletes.computeIfAbsent(deleted, ignored -> new HashSet<>()).add(key);
+            }
+        }
+        variants.merge(tour.getDestination(), 1, Integer::sum);
+    }
+
+    private void delete(Long tourId) {
+        String destination = destinationOf.remove(tourId);
+        if (destination == null) {
+            return;
+        }
+        String key = TextNormalizer.normalize(destination);
+        Map<String, Integer> variants = spellings.get(key);
+        if (variants.merge(destination, -1, Integer::sum) == 0) {
+            variants.remove(destination);
+        }
+        if (variants.isEmpty()) {
+            spellings.remove(key);
+            for (String deleted : deletesOf(prefix(key), MAX_DISTANCE)) {
+                Set<String> keys = deletes.get(deleted);
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    deletes.remove(deleted);
+                }
+            }
+        }
+    }
+
+    private int tourCount(String key) {
+        return spellings.get(key).values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static String prefix(String key) {
+        return key.length() > PREFIX_LENGTH ? key.substring(0, PREFIX_LENGTH) : key;
+    }
+
+    // The word itself plus every string reachable by deleting up to maxDistance characters.
+    private static Set<String> deletesOf(String word, int maxDistance) {
+        Set<String> result = new HashSet<>();
+        result.add(word);
+        Deque<String> frontier = new ArrayDeque<>();
+        frontier.add(word);
+        for (int distance = 0; distance < maxDistance; distance++) {
+            int size = frontier.size();
+            for (int n = 0; n < size; n++) {
+                String current = frontier.poll();
+                for (int i = 0; i < current.length(); i++) {
+                    String deleted = current.substring(0, i) + current.substring(i + 1);
+                    if (result.add(deleted)) {
+                        frontier.add(deleted);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // Optimal string alignment distance (Levenshtein plus adjacent transpositions); stops once it exceeds the limit.
+    private static int distance(String a, String b, int limit) {
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+}
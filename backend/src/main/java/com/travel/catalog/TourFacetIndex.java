@@ -0,0 +1,276 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import com.travel.dto.TourFilterDto;
+import com.travel.entity.Tour;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Bitmap index over the facets of active tours: one bitmap per category, difficulty, price bucket and
+ * duration bucket, with tour ids as bit positions (ids come from an identity column, so the bitmaps stay dense).
+ * Values within a facet are ORed and facets are ANDed. Each facet's counts are taken over the tours matching
+ * every other facet, so clients can show how many results picking a value would add.
+ */
+@Component
+public class TourFacetIndex implements TourIndex {
+
+    public static final String CATEGORY = "category";
+    public static final String DIFFICULTY = "difficulty";
+    public static final String PRICE = "price";
+    public static final String DURATION = "duration";
+
+    private static final List<BigDecimal> PRICE_EDGES = List.of(
+            BigDecimal.ZERO, BigDecimal.valueOf(500), BigDecimal.valueOf(1000), BigDecimal.valueOf(2000), BigDecimal.valueOf(5000));
+    private static final List<Integer> DURATION_EDGES = List.of(1, 4, 8, 15);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, TourDto> documents = new HashMap<>();
+    private final BitSet all = new BitSet();
+    private final Map<Tour.Category, BitSet> byCategory = new EnumMap<>(Tour.Category.class);
+    private final Map<Tour.Difficulty, BitSet> byDifficulty = new EnumMap<>(Tour.Difficulty.class);
+    private final BitSet[] byPrice = bitmaps(PRICE_EDGES.size());
+    private final BitSet[] byDuration = bitmaps(DURATION_EDGES.size());
+
+    @Override
+    public void rebuild(Collection<TourDto> tours) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            all.clear();
+            byCategory.clear();
+            byDifficulty.clear();
+            for (int i = 0; i < byPrice.length; i++) {
+                byPrice[i].clear();
+            }
+            for (int i = 0; i < byDuration.length; i++) {
+                byDuration[i].clear();
+            }
+            tours.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(TourDto tour) {
+        lock.writeLock().lock();
+        try {
+            delete(tour.getId());
+            add(tour);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long tourId) {
+        lock.writeLock().lock();
+        try {
+            delete(tourId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Result filter(TourFilterDto filter, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<String, BitSet> masks = new LinkedHashMap<>();
+            masks.put(CATEGORY, anyOf(byCategory, filter.getCategory()));
+            masks.put(DIFFICULTY, anyOf(byDifficulty, filter.getDifficulty()));
+            masks.put(PRICE, range(byPrice, PRICE_EDGES, filter.getMinPrice(), filter.getMaxPrice(), TourDto::getPrice));
+            masks.put(DURATION, range(byDuration, DURATION_EDGES, filter.getMinDuration(), filter.getMaxDuration(), TourDto::getDuration));
+
+            BitSet matches = matchingAllExcept(masks, null);
+            List<Long> ids = new ArrayList<>(limit);
+            int skipped = 0;
+            for (int id = matches.nextSetBit(0); id >= 0 && ids.size() < limit; id = matches.nextSetBit(id + 1)) {
+                if (skipped++ >= offset) {
+                    ids.add((long) id);
+                }
+            }
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put(CATEGORY, counts(matchingAllExcept(masks, CATEGORY), byCategory, Tour.Category.values()));
+            facets.put(DIFFICULTY, counts(matchingAllExcept(masks, DIFFICULTY), byDifficulty, Tour.Difficulty.values()));
+            facets.put(PRICE, bucketCounts(matchingAllExcept(masks, PRICE), byPrice, PRICE_EDGES));
+            facets.put(DURATION, bucketCounts(matchingAllExcept(masks, DURATION), byDuration, DURATION_EDGES));
+            return new Result(ids, matches.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet matchingAllExcept(Map<String, BitSet> masks, String excluded) {
+        BitSet result = (BitSet) all.clone();
+        masks.forEach((facet, mask) -> {
+            if (mask != null && !facet.equals(excluded)) {
+                result.and(mask);
+            }
+        });
+        return result;
+    }
+
+    private static <K> BitSet anyOf(Map<K, BitSet> bitmaps, List<K> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        BitSet union = new BitSet();
+        for (K value : values) {
+            BitSet bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    // Buckets entirely inside [min, max] are ORed in whole; tours in partially covered buckets are checked one by one.
+    private <T extends Comparable<T>> BitSet range(BitSet[] buckets, List<T> edges, T min, T max,
+                                                   Function<TourDto, T> value) {
+        if (min == null && max == null) {
+            return null;
+        }
+        BitSet union = new BitSet();
+        for (int i = 0; i < buckets.length; i++) {
+            // the first bucket also holds values below its edge, so it has no lower bound
+            T lower = i > 0 ? edges.get(i) : null;
+            T upper = i + 1 < edges.size() ? edges.get(i + 1) : null;
+            if ((max != null && lower != null && max.compareTo(lower) < 0)
+                    || (min != null && upper != null && min.compareTo(upper) >= 0)) {
+                continue;
+            }
+            boolean covered = (min == null || (lower != null && min.compareTo(lower) <= 0))
+                    && (max == null || (upper != null && max.compareTo(upper) >= 0));
+            if (covered) {
+                union.or(buckets[i]);
+                continue;
+            }
+            BitSet bucket = buckets[i];
+            for (int id = bucket.nextSetBit(0); id >= 0; id = bucket.nextSetBit(id + 1)) {
+                T actual = value.apply(documents.get((long) id));
+                if ((min == null || actual.compareTo(min) >= 0) && (max == null || actual.compareTo(max) <= 0)) {
+                    union.set(id);
+                }
+            }
+        }
+        return union;
+    }
+
+    private static <K extends Enum<K>> Map<String, Integer> counts(BitSet matches, Map<K, BitSet> bitmaps, K[] values) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (K value : values) {
+            BitSet bitmap = bitmaps.get(value);
+            counts.put(value.name(), bitmap != null ? intersectionSize(matches, bitmap) : 0);
+        }
+        return counts;
+    }
+
+    private static Map<String, Integer> bucketCounts(BitSet matches, BitSet[] buckets, List<?> edges) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            String label = i + 1 < edges.size()
+                    ? edges.get(i) + "-" + edges.get(i + 1)
+                    : edges.get(i) + "+";
+            counts.put(label, intersectionSize(matches, buckets[i]));
+        }
+        return counts;
+    }
+
+    private static int intersectionSize(BitSet left, BitSet right) {
+        BitSet intersection = (BitSet) left.clone();
+        intersection.and(right);
+        return intersection.cardinality();
+    }
+
+    private void add(TourDto tour) {
+        if (!Boolean.TRUE.equals(tour.getIsActive())) {
+            return;
+        }
+        int bit = Math.toIntExact(tour.getId());
+        documents.put(tour.getId(), tour);
+        all.set(bit);
+        if (tour.getCategory() != null) {
+            byCategory.computeIfAbsent(tour.getCategory(), key -> new BitSet()).set(bit);
+        }
+        if (tour.getDifficulty() != null) {
+            byDifficulty.computeIfAbsent(tour.getDifficulty(), key -> new BitSet()).set(bit);
+        }
+        if (tour.getPrice() != null) {
+            byPrice[bucket(PRICE_EDGES, tour.getPrice())].set(bit);
+        }
+        if (tour.getDuration() != null) {
+            byDuration[bucket(DURATION_EDGES, tour.getDuration())].set(bit);
+        }
+    }
+
+    private void delete(Long tourId) {
+        if (documents.remove(tourId) == null) {
+            return;
+        }
+        int bit = Math.toIntExact(tourId);
+        all.clear(bit);
+        byCategory.values().forEach(bitmap -> bitmap.clear(bit));
+        byDifficulty.values().forEach(bitmap -> bitmap.clear(bit));
+        for (BitSet bitmap : byPrice) {
+            bitmap.clear(bit);
+        }
+        for (BitSet bitmap : byDuration) {
+            bitmap.clear(bit);
+        }
+    }
+
+    // Values below the first edge fall into the first bucket.
+    private static <T extends Comparable<T>> int bucket(List<T> edges, T value) {
+        int bucket = 0;
+        for (int i = 1; i < edges.size() && value.compareTo(edges.get(i)) >= 0; i++) {
+            bucket = i;
+        }
+        return bucket;
+    }
+
+    private static BitSet[] bitmaps(int count) {
+        BitSet[] bitmaps = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new BitSet();
+        }
+        return bitmaps;
+    }
+
+    public static final class Result {
+        private final List<Long> ids;
+        private final int total;
+        private final Map<String, Map<String, Integer>> facets;
+
+        private Result(List<Long> ids, int total, Map<String, Map<String, Integer>> facets) {
+            this.ids = ids;
+            this.total = total;
+            this.facets = facets;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public Map<String, Map<String, Integer>> getFacets() {
+            return facets;
+        }
+    }
+}
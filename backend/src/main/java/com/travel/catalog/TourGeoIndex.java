@@ -0,0 +1,332 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import com.travel.entity.Tour;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Spatial index over active tours with coordinates, bucketed into a fixed grid of {@value #CELL_DEGREES} degree
+ * cells (about 3.5 km across at the equator), which plays the role of a geohash prefix but keeps cell keys as ints.
+ * On top of the grid sit coarser levels, each merging 2 x 2 cells of the one below, that only count their tours.
+ * Nearest-neighbour queries walk this pyramid best first: a queue holds occupied cells ordered by the least
+ * distance any point inside them can have from the query point, and the walk stops once the next cell cannot
+ * beat the k-th tour found. Empty regions are skipped a whole coarse cell at a time, so a query from a sparse
+ * area costs about as much as one from a dense one.
+ */
+@Component
+public class TourGeoIndex implements TourIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final double CELL_DEGREES = 0.03125;
+    private static final int ROWS = (int) (180 / CELL_DEGREES);
+    private static final int COLUMNS = (int) (360 / CELL_DEGREES);
+    // level 11 cells are 64 degrees across, leaving 3 x 6 cells at the top
+    private static final int LEVELS = 12;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Point> points = new HashMap<>();
+    private final Map<Integer, List<Point>> cells = new HashMap<>();
+    // tour counts of the coarser levels; index 0 is unused, the grid itself is cells
+    private final List<Map<Integer, Integer>> counts = new ArrayList<>();
+
+    public TourGeoIndex() {
+        for (int level = 0; level < LEVELS; level++) {
+            counts.add(new HashMap<>());
+        }
+    }
+
+    @Override
+    public void rebuild(Collection<TourDto> tours) {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            cells.clear();
+            counts.forEach(Map::clear);
+            tours.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(TourDto tour) {
+        lock.writeLock().lock();
+        try {
+            delete(tour.getId());
+            add(tour);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long tourId) {
+        lock.writeLock().lock();
+        try {
+            delete(tourId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public static boolean isValid(Double latitude, Double longitude) {
+        return latitude != null && longitude != null
+                && latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    /**
+     * Returns up to {@code limit} active tours nearest to the given point, closest first, optionally restricted to
+     * one category and to tours within {@code radiusKm}. A null radius makes it a plain k-nearest-neighbour query.
+     */
+    public List<Hit> nearest(double latitude, double longitude, Double radiusKm, Tour.Category category, int limit) {
+        if (longitude >= 180) {
+            longitude -= 360;
+        }
+        double maxDistance = radiusKm != null ? radiusKm : Double.POSITIVE_INFINITY;
+        // candidates are compared on the haversine term, which orders them like the distance without the asin
+        double maxHaversine = maxDistance < Math.PI * EARTH_RADIUS_KM ? haversine(maxDistance / EARTH_RADIUS_KM) : 1;
+        // farthest candidate on top, so it is the one evicted when a closer tour turns up
+        PriorityQueue<Candidate> hits = new PriorityQueue<>(Comparator.comparingDouble((Candidate hit) -> hit.haversine).reversed());
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        PriorityQueue<Cell> queue = new PriorityQueue<>(Comparator.comparingDouble((Cell cell) -> cell.bound));
+
+        lock.readLock().lock();
+        try {
+            int top = LEVELS - 1;
+            for (int r = 0; r < rows(top); r++) {
+                for (int c = 0; c < columns(top); c++) {
+                    offer(queue, top, r, c, latitude, longitude, cosLatitude, maxDistance);
+                }
+            }
+            Cell next;
+            while ((next = queue.poll()) != null) {
+                if (hits.size() == limit && next.bound >= kilometres(hits.peek().haversine)) {
+                    break;
+                }
+                if (next.level == 0) {
+                    collect(cells.get(key(0, next.row, next.column)), latitude, longitude, cosLatitude,
+                            maxHaversine, category, limit, hits);
+                    continue;
+                }
+                int level = next.level - 1;
+                for (int r = 2 * next.row; r <= 2 * next.row + 1 && r < rows(level); r++) {
+                    for (int c = 2 * next.column; c <= 2 * next.column + 1 && c < columns(level); c++) {
+                        offer(queue, level, r, c, latitude, longitude, cosLatitude, maxDistance);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> result = new ArrayList<>(hits.size());
+        for (Candidate hit : hits) {
+            result.add(new Hit(hit.id, kilometres(hit.haversine)));
+        }
+        result.sort(Comparator.comparingDouble(Hit::getDistanceKm).thenComparingLong(Hit::getId));
+        return result;
+    }
+
+    private static void collect(List<Point> cell, double latitude, double longitude, double cosLatitude,
+                                double maxHaversine, Tour.Category category, int limit, PriorityQueue<Candidate> hits) {
+        for (Point point : cell) {
+            if (category != null && point.category != category) {
+                continue;
+            }
+            double haversine = haversine(Math.toRadians(point.latitude - latitude))
+                    + cosLatitude * point.cosLatitude * haversine(Math.toRadians(point.longitude - longitude));
+            if (haversine > maxHaversine || (hits.size() == limit && haversine >= hits.peek().haversine)) {
+                continue;
+            }
+            hits.add(new Candidate(point.id, haversine));
+            if (hits.size() > limit) {
+                hits.poll();
+            }
+        }
+    }
+
+    private void offer(PriorityQueue<Cell> queue, int level, int row, int column,
+                       double latitude, double longitude, double cosLatitude, double maxDistance) {
+        if (!occupied(level, row, column)) {
+            return;
+        }
+        double bound = distanceToCell(latitude, longitude, cosLatitude, level, row, column);
+        if (bound <= maxDistance) {
+            queue.add(new Cell(level, row, column, bound));
+        }
+    }
+
+    private boolean occupied(int level, int row, int column) {
+        return level == 0 ? cells.containsKey(key(0, row, column)) : counts.get(level).containsKey(key(level, row, column));
+    }
+
+    /**
+     * Least distance from the query point to any point of the cell. When the query longitude falls within the
+     * cell's, the nearest point lies straight north or south of it. Otherwise, for a fixed latitude the distance
+     * only grows with the longitude difference, so the nearest point lies on the cell's nearer meridian edge.
+     * Along a meridian the distance falls to a single minimum (the foot of the perpendicular, when it lies on the
+     * near half) and rises again, so the edge's ends and that foot are the only places to check.
+     */
+    private static double distanceToCell(double latitude, double longitude, double cosLatitude,
+                                         int level, int row, int column) {
+        double degrees = CELL_DEGREES * (1 << level);
+        double south = row * degrees - 90;
+        double north = Math.min(90, (row + 1) * degrees - 90);
+        double west = column * degrees - 180;
+        double east = Math.min(180, (column + 1) * degrees - 180);
+        if (longitude >= west && longitude <= east) {
+            double latitudeGap = Math.max(0, Math.max(south - latitude, latitude - north));
+            return Math.toRadians(latitudeGap) * EARTH_RADIUS_KM;
+        }
+        double gap = Math.min(longitudeDifference(longitude, west), longitudeDifference(longitude, east));
+        double bound = Math.min(distance(latitude, cosLatitude, south, gap), distance(latitude, cosLatitude, north, gap));
+        if (gap < 90) {
+            double foot = Math.toDegrees(Math.atan(Math.tan(Math.toRadians(latitude)) / Math.cos(Math.toRadians(gap))));
+            if (foot > south && foot < north) {
+                bound = Math.min(bound, distance(latitude, cosLatitude, foot, gap));
+            }
+        }
+        return bound;
+    }
+
+    private static double longitudeDifference(double longitude, double other) {
+        double difference = Math.abs(longitude - other) % 360;
+        return difference > 180 ? 360 - difference : difference;
+    }
+
+    private static double distance(double latitude, double cosLatitude, double otherLatitude, double longitudeDifference) {
+        return kilometres(haversine(Math.toRadians(otherLatitude - latitude))
+                + cosLatitude * Math.cos(Math.toRadians(otherLatitude)) * haversine(Math.toRadians(longitudeDifference)));
+    }
+
+    private static double kilometres(double haversine) {
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1, haversine)));
+    }
+
+    private static double haversine(double radians) {
+        double sin = Math.sin(radians / 2);
+        return sin * sin;
+    }
+
+    private void add(TourDto tour) {
+        if (!Boolean.TRUE.equals(tour.getIsActive()) || !isValid(tour.getLatitude(), tour.getLongitude())) {
+            return;
+        }
+        Point point = new Point(tour);
+        points.put(point.id, point);
+        cells.computeIfAbsent(key(0, point.row, point.column), ignored -> new ArrayList<>()).add(point);
+        for (int level = 1; level < LEVELS; level++) {
+            counts.get(level).merge(key(level, point.row >> level, point.column >> level), 1, Integer::sum);
+        }
+    }
+
+    private void delete(Long tourId) {
+        Point point = points.remove(tourId);
+        if (point == null) {
+            return;
+        }
+        int cell = key(0, point.row, point.column);
+        List<Point> members = cells.get(cell);
+        members.remove(point);
+        if (members.isEmpty()) {
+            cells.remove(cell);
+        }
+        for (int level = 1; level < LEVELS; level++) {
+            counts.get(level).computeIfPresent(key(level, point.row >> level, point.column >> level),
+                    (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private static int row(double latitude) {
+        return Math.min(ROWS - 1, (int) ((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+    }
+
+    private static int rows(int level) {
+        return (ROWS + (1 << level) - 1) >> level;
+    }
+
+    private static int columns(int level) {
+        return (COLUMNS + (1 << level) - 1) >> level;
+    }
+
+    private static int key(int level, int row, int column) {
+        return row * columns(level) + column;
+    }
+
+    private static final class Point {
+        private final long id;
+        private final double latitude;
+        private final double longitude;
+        private final double cosLatitude;
+        private final Tour.Category category;
+        private final int row;
+        private final int column;
+
+        private Point(TourDto tour) {
+            this.id = tour.getId();
+            this.latitude = tour.getLatitude();
+            this.longitude = tour.getLongitude();
+            this.cosLatitude = Math.cos(Math.toRadians(latitude));
+            this.category = tour.getCategory();
+            this.row = row(latitude);
+            this.column = column(longitude);
+        }
+    }
+
+    private static final class Cell {
+        private final int level;
+        private final int row;
+        private final int column;
+        private final double bound;
+
+        private Cell(int level, int row, int column, double bound) {
+            this.level = level;
+            this.row = row;
+            this.column = column;
+            this.bound = bound;
+        }
+    }
+
+    private static final class Candidate {
+        private final long id;
+        private final double haversine;
+
+        private Candidate(long id, double haversine) {
+            this.id = id;
+            this.haversine = haversine;
+        }
+    }
+
+    public static final class Hit {
+        private final long id;
+        private final double distanceKm;
+
+        private Hit(long id, double distanceKm) {
+            this.id = id;
+            this.distanceKm = distanceKm;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+}
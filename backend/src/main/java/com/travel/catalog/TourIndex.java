@@ -0,0 +1,18 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+
+import java.util.Collection;
+
+/**
+ * In-memory secondary index over the tour catalog. {@link TourCatalog} keeps every registered
+ * index in step with its snapshot: a full {@link #rebuild} on load, then one call per committed tour write.
+ */
+public interface TourIndex {
+
+    void rebuild(Collection<TourDto> tours);
+
+    void upsert(TourDto tour);
+
+    void remove(Long tourId);
+}
@@ -0,0 +1,123 @@
+package com.travel.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.dto.TourDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UTF-8 JSON of catalog tours, serialized once per published {@link TourDto} and per list view.
+ * Entries remember the snapshot object they were rendered from and are only served while the caller
+ * passes that same instance, so a reader racing a catalog write can never get or leave stale bytes.
+ * Lists are assembled from the per-tour payloads without going through Jackson again.
+ */
+@Component
+@RequiredArgsConstructor
+public class TourJsonCache implements TourIndex {
+
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Rendered<TourDto>> tours = new ConcurrentHashMap<>();
+    private final Map<String, Rendered<List<TourDto>>> views = new ConcurrentHashMap<>();
+
+    @Override
+    public void rebuild(Collection<TourDto> all) {
+        tours.clear();
+        views.clear();
+    }
+
+    @Override
+    public void upsert(TourDto tour) {
+        tours.remove(tour.getId());
+        views.clear();
+    }
+
+    @Override
+    public void remove(Long tourId) {
+        tours.remove(tourId);
+        views.clear();
+    }
+
+    public byte[] tour(TourDto tour) {
+        Rendered<TourDto> rendered = tours.get(tour.getId());
+        if (rendered != null && rendered.source == tour) {
+            return rendered.json;
+        }
+        byte[] json = serialize(tour);
+        tours.put(tour.getId(), new Rendered<>(tour, json));
+        return json;
+    }
+
+    /**
+     * Renders a catalog list and keeps the result under {@code view} for as long as the snapshot hands out the
+     * same list instance. Empty lists are not kept, so arbitrary path values cannot grow the cache.
+     */
+    public byte[] list(String view, List<TourDto> list) {
+        if (list.isEmpty()) {
+            return EMPTY_ARRAY;
+        }
+        Rendered<List<TourDto>> rendered = views.get(view);
+        if (rendered != null && rendered.source == list) {
+            return rendered.json;
+        }
+        byte[] json = join(list);
+        views.put(view, new Rendered<>(list, json));
+        return json;
+    }
+
+    /**
+     * Renders a list that is built per request, such as a ranking cut to a caller-chosen limit. Only the
+     * per-tour payloads are cached.
+     */
+    public byte[] list(List<TourDto> list) {
+        return list.isEmpty() ? EMPTY_ARRAY : join(list);
+    }
+
+    private byte[] join(List<TourDto> list) {
+        byte[][] parts = new byte[list.size()][];
+        int length = 1 + list.size();
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = tour(list.get(i));
+            length += parts[i].length;
+        }
+        byte[] json = new byte[length];
+        int position = 0;
+        json[position++] = '[';
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                json[position++] = ',';
+            }
+            System.arraycopy(parts[i], 0, json, position, parts[i].length);
+            position += parts[i].length;
+        }
+        json[position] = ']';
+        return json;
+    }
+
+    private byte[] serialize(TourDto tour) {
+        try {
+            return objectMapper.writeValueAsBytes(tour);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize tour " + tour.getId(), e);
+        }
+    }
+
+    private static final class Rendered<T> {
+        private final T source;
+        private final byte[] json;
+
+        private Rendered(T source, byte[] json) {
+            this.source = source;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import com.travel.entity.Tour;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Active tours kept in rating order and in creation order, globally and per category, in concurrent skip lists.
+ * A write moves only the entry of the tour that changed, and only when its sort key or category actually changed;
+ * the first {@code limit} ids are then read straight off the head of a list. Readers take no lock: a tour being
+ * moved can briefly appear twice, which {@link #top} filters out.
+ */
+@Component
+public class TourRankingIndex implements TourIndex {
+
+    public enum Ranking {
+        TOP_RATED, LATEST
+    }
+
+    private static final Comparator<Entry> BY_RATING_DESC =
+            Comparator.comparing((Entry entry) -> entry.rating, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparingLong(entry -> entry.id);
+    private static final Comparator<Entry> BY_CREATED_AT_DESC =
+            Comparator.comparing((Entry entry) -> entry.createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparingLong(entry -> entry.id);
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Ranking, Rankings> rankings = new EnumMap<>(Map.of(
+            Ranking.TOP_RATED, new Rankings(BY_RATING_DESC),
+            Ranking.LATEST, new Rankings(BY_CREATED_AT_DESC)));
+
+    @Override
+    public synchronized void rebuild(Collection<TourDto> tours) {
+        entries.clear();
+        rankings.values().forEach(Rankings::clear);
+        tours.forEach(this::upsert);
+    }
+
+    @Override
+    public synchronized void upsert(TourDto tour) {
+        Entry previous = entries.get(tour.getId());
+        if (!Boolean.TRUE.equals(tour.getIsActive())) {
+            remove(tour.getId());
+            return;
+        }
+        Entry current = new Entry(tour);
+        entries.put(tour.getId(), current);
+        rankings.values().forEach(ranking -> ranking.move(previous, current));
+    }
+
+    @Override
+    public synchronized void remove(Long tourId) {
+        Entry previous = entries.remove(tourId);
+        if (previous != null) {
+            rankings.values().forEach(ranking -> ranking.move(previous, null));
+        }
+    }
+
+    /**
+     * Returns the ids of the first {@code limit} active tours in the given order, optionally within one category.
+     */
+    public List<Long> top(Ranking ranking, Tour.Category category, int limit) {
+        NavigableSet<Entry> ranked = rankings.get(ranking).of(category);
+        List<Long> ids = new ArrayList<>(Math.min(limit, entries.size()));
+        Set<Long> seen = new HashSet<>();
+        for (Entry entry : ranked) {
+            if (ids.size() >= limit) {
+                break;
+            }
+            if (seen.add(entry.id)) {
+                ids.add(entry.id);
+            }
+        }
+        return ids;
+    }
+
+    private static final class Rankings {
+        private final Comparator<Entry> order;
+        private final NavigableSet<Entry> all;
+        private final Map<Tour.Category, NavigableSet<Entry>> byCategory = new ConcurrentHashMap<>();
+
+        private Rankings(Comparator<Entry> order) {
+            this.order = order;
+            this.all = new ConcurrentSkipListSet<>(order);
+        }
+
+        private NavigableSet<Entry> of(Tour.Category category) {
+            if (category == null) {
+                return all;
+            }
+            return byCategory.getOrDefault(category, Collections.emptyNavigableSet());
+        }
+
+        // New position first, then the old one goes, so a concurrent reader never misses the tour.
+        private void move(Entry previous, Entry current) {
+            boolean samePosition = previous != null && current != null && order.compare(previous, current) == 0;
+            if (samePosition && previous.category == current.category) {
+                return;
+            }
+            if (current != null) {
+                all.add(current);
+                if (current.category != null) {
+                    byCategory.computeIfAbsent(current.category, key -> new ConcurrentSkipListSet<>(order)).add(current);
+                }
+            }
+            if (previous != null) {
+                if (!samePosition) {
+                    all.remove(previous);
+                }
+                if (previous.category != null) {
+                    byCategory.get(previous.category).remove(previous);
+                }
+            }
+        }
+
+        private void clear() {
+            all.clear();
+            byCategory.clear();
+        }
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final Double rating;
+        private final LocalDateTime createdAt;
+        private final Tour.Category category;
+
+        private Entry(TourDto tour) {
+            this.id = tour.getId();
+            this.rating = tour.getRating();
+            this.createdAt = tour.getCreatedAt();
+            this.category = tour.getCategory();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over the title, destination, includes and description of active tours.
+ * Every query term must match, exactly or, once it is at least {@value #MIN_PREFIX_LENGTH} characters long, as a
+ * prefix of indexed terms; hits are ranked with BM25 over field-weighted term frequencies. A prefix expands to
+ * every indexed term it starts, so no match is lost to an expansion cap; shorter terms are too unselective to
+ * expand and only match whole words.
+ */
+@Component
+public class TourSearchIndex implements TourIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float DESTINATION_WEIGHT = 2.5f;
+    private static final float INCLUDES_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float PREFIX_MATCH_FACTOR = 0.6f;
+    private static final int MIN_PREFIX_LENGTH = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private double totalLength;
+
+    @Override
+    public void rebuild(Collection<TourDto> tours) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            tours.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(TourDto tour) {
+        lock.writeLock().lock();
+        try {
+            delete(tour.getId());
+            add(tour);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long tourId) {
+        lock.writeLock().lock();
+        try {
+            delete(tourId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of matching tours, best match first, skipping {@code offset} hits.
+     */
+    public List<Long> search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextNormalizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Float>> termScores = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Float> scores = score(term);
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+                termScores.add(scores);
+            }
+            termScores.sort(Comparator.comparingInt(Map::size));
+
+            Map<Long, Float> hits = new HashMap<>(termScores.get(0));
+            for (int i = 1; i < termScores.size() && !hits.isEmpty(); i++) {
+                Map<Long, Float> scores = termScores.get(i);
+                hits.entrySet().removeIf(hit -> !scores.containsKey(hit.getKey()));
+                hits.replaceAll((id, score) -> score + scores.get(id));
+            }
+            return top(hits, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Float> score(String term) {
+        Map<Long, Float> scores = new HashMap<>();
+        Map<String, Map<Long, Float>> matches = term.length() >= MIN_PREFIX_LENGTH
+                ? postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                : postings.subMap(term, true, term, true);
+        for (Map.Entry<String, Map<Long, Float>> entry : matches.entrySet()) {
+            String indexed = entry.getKey();
+            float boost = indexed.length() == term.length() ? 1.0f : PREFIX_MATCH_FACTOR;
+            double idf = idf(entry.getValue().size());
+            entry.getValue().forEach((id, frequency) -> {
+                float score = (float) (boost * idf * bm25(frequency, documents.get(id).length));
+                scores.merge(id, score, Math::max);
+            });
+        }
+        return scores;
+    }
+
+    private List<Long> top(Map<Long, Float> hits, int offset, int limit) {
+        int wanted = offset + limit;
+        Comparator<Map.Entry<Long, Float>> ranking = Map.Entry.<Long, Float>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Float>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Float>> best = new PriorityQueue<>(ranking);
+        for (Map.Entry<Long, Float> hit : hits.entrySet()) {
+            best.offer(hit);
+            if (best.size() > wanted) {
+                best.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll().getKey());
+        }
+        List<Long> page = new ArrayList<>(limit);
+        for (int i = ranked.size() - 1 - offset; i >= 0 && page.size() < limit; i--) {
+            page.add(ranked.get(i));
+        }
+        return page;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private double bm25(float frequency, float length) {
+        double averageLength = documents.isEmpty() ? 1 : totalLength / documents.size();
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private void add(TourDto tour) {
+        if (!Boolean.TRUE.equals(tour.getIsActive())) {
+            return;
+        }
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = accumulate(frequencies, tour.getTitle(), TITLE_WEIGHT)
+                + accumulate(frequencies, tour.getDestination(), DESTINATION_WEIGHT)
+                + accumulate(frequencies, tour.getDescription(), DESCRIPTION_WEIGHT);
+        if (tour.getIncludes() != null) {
+            for (String inclusion : tour.getIncludes()) {
+                length += accumulate(frequencies, inclusion, INCLUDES_WEIGHT);
+            }
+        }
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(tour.getId(), frequency));
+        documents.put(tour.getId(), new Document(frequencies.keySet(), length));
+        totalLength += length;
+    }
+
+    private void delete(Long tourId) {
+        Document document = documents.remove(tourId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms) {
+            Map<Long, Float> posting = postings.get(term);
+            posting.remove(tourId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.length;
+    }
+
+    private static float accumulate(Map<String, Float> frequencies, String text, float weight) {
+        List<String> tokens = TextNormalizer.tokenize(text);
+        tokens.forEach(token -> frequencies.merge(token, weight, Float::sum));
+        return tokens.size() * weight;
+    }
+
+    private static final class Document {
+        private final Collection<String> terms;
+        private final float length;
+
+        private Document(Collection<String> terms, float length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import com.travel.dto.TourSuggestionDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Autocomplete over the titles and destinations of active tours. Every normalized phrase is stored in a
+ * character trie under each of its word suffixes, so "par" completes both "Paris" and "Romantic Paris Getaway".
+ * A title weighs {@code rating * ln(1 + reviewCount)} and a destination the sum over its tours. Each trie node
+ * keeps the best weight below it, so the top completions are found best-first without walking the whole subtree.
+ * Writes keep those maxima up to date along the changed paths, rescanning a node only when its maximum left.
+ */
+@Component
+public class TourSuggestIndex implements TourIndex {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final int MAX_SUFFIXES = 8;
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingDouble((Candidate candidate) -> -candidate.weight)
+            .thenComparing(candidate -> candidate.suggestion == null)
+            .thenComparing(candidate -> candidate.suggestion != null ? candidate.suggestion.text : "");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private final Map<Long, Suggestion> titles = new HashMap<>();
+    private final Map<Long, String> destinationOf = new HashMap<>();
+    private final Map<String, Suggestion> destinations = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<TourDto> tours) {
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            titles.clear();
+            destinationOf.clear();
+            destinations.clear();
+            tours.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(TourDto tour) {
+        lock.writeLock().lock();
+        try {
+            delete(tour.getId());
+            add(tour);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long tourId) {
+        lock.writeLock().lock();
+        try {
+            delete(tourId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<TourSuggestionDto> suggest(String prefix, int limit) {
+        String key = TextNormalizer.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            List<TourSuggestionDto> results = new ArrayList<>(limit);
+            Set<Suggestion> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+            queue.add(new Candidate(node.best, node, null));
+            while (!queue.isEmpty() && results.size() < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.suggestion != null) {
+                    if (seen.add(candidate.suggestion)) {
+                        results.add(candidate.suggestion.toDto());
+                    }
+                    continue;
+                }
+                for (Suggestion suggestion : candidate.node.suggestions) {
+                    queue.add(new Candidate(suggestion.weight, null, suggestion));
+                }
+                for (Node child : candidate.node.children) {
+                    queue.add(new Candidate(child.best, child, null));
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(TourDto tour) {
+        if (!Boolean.TRUE.equals(tour.getIsActive())) {
+            return;
+        }
+        double weight = weight(tour);
+
+        String title = TextNormalizer.normalize(tour.getTitle());
+        if (!title.isEmpty()) {
+            Suggestion suggestion = new Suggestion(tour.getTitle(), TourSuggestionDto.Type.TITLE, tour.getId(), title);
+            suggestion.weight = weight;
+            titles.put(tour.getId(), suggestion);
+            forEachSuffix(title, suffix -> insert(suffix, suggestion));
+        }
+
+        String destination = TextNormalizer.normalize(tour.getDestination());
+        if (!destination.isEmpty()) {
+            destinationOf.put(tour.getId(), destination);
+            Suggestion suggestion = destinations.get(destination);
+            if (suggestion == null) {
+                Suggestion created = new Suggestion(tour.getDestination(), TourSuggestionDto.Type.DESTINATION, null, destination);
+                destinations.put(destination, created);
+                forEachSuffix(destination, suffix -> insert(suffix, created));
+                suggestion = created;
+            }
+            suggestion.contributions.put(tour.getId(), weight);
+            reweigh(suggestion);
+        }
+    }
+
+    private void delete(Long tourId) {
+        Suggestion title = titles.remove(tourId);
+        if (title != null) {
+            forEachSuffix(title.key, suffix -> detach(suffix, title));
+        }
+
+        String destination = destinationOf.remove(tourId);
+        if (destination != null) {
+            Suggestion suggestion = destinations.get(destination);
+            suggestion.contributions.remove(tourId);
+            if (suggestion.contributions.isEmpty()) {
+                destinations.remove(destination);
+                forEachSuffix(destination, suffix -> detach(suffix, suggestion));
+            } else {
+                reweigh(suggestion);
+            }
+        }
+    }
+
+    private void reweigh(Suggestion suggestion) {
+        double previous = suggestion.weight;
+        suggestion.weight = suggestion.contributions.values().stream().mapToDouble(Double::doubleValue).sum();
+        if (suggestion.weight > previous) {
+            forEachSuffix(suggestion.key, suffix -> raise(path(suffix, false), suggestion.weight));
+        } else if (suggestion.weight < previous) {
+            forEachSuffix(suggestion.key, suffix -> lower(path(suffix, false), previous));
+        }
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+        List<Node> path = path(key, true);
+        path.get(path.size() - 1).suggestions.add(suggestion);
+        raise(path, suggestion.weight);
+    }
+
+    private void detach(String key, Suggestion suggestion) {
+        List<Node> path = path(key, false);
+        if (path == null) {
+            return;
+        }
+        path.get(path.size() - 1).suggestions.remove(suggestion);
+        lower(path, suggestion.weight);
+        // prune nodes left without suggestions or children, deepest first
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            if (!node.suggestions.isEmpty() || node.children.length > 0) {
+                break;
+            }
+            path.get(i - 1).removeChild(key.charAt(i - 1));
+        }
+    }
+
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node next = node.child(key.charAt(i));
+            if (next == null) {
+                if (!create) {
+                    return null;
+                }
+                next = node.addChild(key.charAt(i));
+            }
+            node = next;
+            path.add(node);
+        }
+        return path;
+    }
+
+    // A suggestion at the end of the path got heavier or was added, so nodes on it can only rise to its weight.
+    private static void raise(List<Node> path, double weight) {
+        if (path == null) {
+            return;
+        }
+        for (int i = path.size() - 1; i >= 0 && path.get(i).best < weight; i--) {
+            path.get(i).best = weight;
+        }
+    }
+
+    /**
+     * A suggestion that weighed {@code previous} left the end of the path or became lighter. Only nodes whose best
+     * was exactly that weight can change, so the walk rescans a node only then and stops at the first node that
+     * keeps its best.
+     */
+    private static void lower(List<Node> path, double previous) {
+        if (path == null) {
+            return;
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            if (node.best > previous) {
+                return;
+            }
+            double best = Double.NEGATIVE_INFINITY;
+            for (Suggestion suggestion : node.suggestions) {
+                best = Math.max(best, suggestion.weight);
+            }
+            for (Node child : node.children) {
+                best = Math.max(best, child.best);
+            }
+            if (best == node.best) {
+                return;
+            }
+            node.best = best;
+        }
+    }
+
+    private static void forEachSuffix(String phrase, Consumer<String> action) {
+        int start = 0;
+        for (int suffixes = 0; suffixes < MAX_SUFFIXES && start >= 0; suffixes++) {
+            action.accept(phrase.substring(start));
+            int space = phrase.indexOf(' ', start);
+            start = space >= 0 ? space + 1 : -1;
+        }
+    }
+
+    private static double weight(TourDto tour) {
+        double rating = tour.getRating() != null ? tour.getRating() : 0;
+        int reviews = tour.getReviewCount() != null ? tour.getReviewCount() : 0;
+        return rating * Math.log1p(reviews);
+    }
+
+    // Children are kept in parallel arrays sorted by character, which is far smaller than a map per node.
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private final List<Suggestion> suggestions = new ArrayList<>(1);
+        private double best = Double.NEGATIVE_INFINITY;
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node addChild(char label) {
+            int index = -(Arrays.binarySearch(labels, label) + 1);
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            Node child = new Node();
+            newLabels[index] = label;
+            newChildren[index] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels.length == 0 ? NO_LABELS : newLabels;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+    }
+
+    private static final class Suggestion {
+        private final String text;
+        private final TourSuggestionDto.Type type;
+        private final Long tourId;
+        private final String key;
+        private final Map<Long, Double> contributions = new HashMap<>();
+        private double weight;
+
+        private Suggestion(String text, TourSuggestionDto.Type type, Long tourId, String key) {
+            this.text = text;
+            this.type = type;
+            this.tourId = tourId;
+            this.key = key;
+        }
+
+        private TourSuggestionDto toDto() {
+            return new TourSuggestionDto(text, type, tourId, weight);
+        }
+    }
+
+    private static final class Candidate {
+        private final double weight;
+        private final Node node;
+        private final Suggestion suggestion;
+
+        private Candidate(double weight, Node node, Suggestion suggestion) {
+            this.weight = weight;
+            this.node = node;
+            this.suggestion = suggestion;
+        }
+    }
+}
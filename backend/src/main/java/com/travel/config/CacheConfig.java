@@ -0,0 +1,41 @@
+package com.travel.config;
+
+import com.travel.cache.TwoTierCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    public static final String TOUR_REVIEWS = "tourReviews";
+    public static final String TOUR_AVERAGE_RATING = "tourAverageRating";
+    public static final String TOUR_REVIEW_COUNT = "tourReviewCount";
+    
+    /**
+     * The second level is a bean named {@code secondLevelCacheManager} when one is defined (e.g. a
+     * RedisCacheManager), otherwise an in-process map when {@code cache.l2.type=in-memory}, otherwise none.
+     */
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(
+            @Value("${cache.l1.maximum-size}") long maximumSize,
+            @Value("${cache.l1.ttl}") long ttlMillis,
+            @Value("${cache.l2.type:none}") String secondLevelType,
+            @Qualifier("secondLevelCacheManager") ObjectProvider<CacheManager> secondLevelCacheManager) {
+        CacheManager secondLevel = secondLevelCacheManager.getIfAvailable();
+        if (secondLevel == null && "in-memory".equals(secondLevelType)) {
+            secondLevel = new ConcurrentMapCacheManager();
+        }
+        return new TwoTierCacheManager(maximumSize, Duration.ofMillis(ttlMillis), secondLevel);
+    }
+}
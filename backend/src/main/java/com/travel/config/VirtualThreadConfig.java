@@ -0,0 +1,38 @@
+package com.travel.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * With {@code spring.threads.virtual.enabled} (Java 21), Tomcat, {@code @Async} and scheduled work run on
+ * virtual threads and request concurrency is no longer bounded by a thread pool. Database concurrency is
+ * then bounded here instead, by wrapping the pool in a {@link ConcurrencyLimitingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "database.concurrency-limit.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+    
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                int poolSize = bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+                int maxConcurrent = environment.getProperty(
+                        "database.concurrency-limit.max-concurrent", Integer.class, poolSize);
+                long acquireTimeout = environment.getProperty(
+                        "database.concurrency-limit.acquire-timeout", Long.class, 5000L);
+                return new ConcurrencyLimitingDataSource(dataSource, Math.min(maxConcurrent, poolSize), acquireTimeout);
+            }
+        };
+    }
+}
@@ -1,16 +1,30 @@
 package com.travel.controller;
 
+import com.travel.cache.TwoTierCacheManager;
 import com.travel.dto.BookingDto;
+import com.travel.dto.CursorPage;
+import com.travel.dto.ReportRowDto;
 import com.travel.dto.TourDto;
+import com.travel.dto.TourImportResultDto;
 import com.travel.dto.UserDto;
 import com.travel.entity.Booking;
 import com.travel.service.BookingService;
+import com.travel.service.ReportService;
 import com.travel.service.TourService;
+import com.travel.service.TourTransferService;
 import com.travel.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Locale;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,18 +37,25 @@ public class AdminController {
     
     private final UserService userService;
     private final TourService tourService;
+    private final TourTransferService tourTransferService;
     private final BookingService bookingService;
+    private final ReportService reportService;
+    private final TwoTierCacheManager cacheManager;
     
     // User Management
     @GetMapping("/users")
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        List<UserDto> users = userService.getAllUsers();
+    public ResponseEntity<CursorPage<UserDto>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<UserDto> users = userService.getAllUsers(cursor, size);
         return ResponseEntity.ok(users);
     }
     
     @GetMapping("/users/active")
-    public ResponseEntity<List<UserDto>> getActiveUsers() {
-        List<UserDto> users = userService.getAllActiveUsers();
+    public ResponseEntity<CursorPage<UserDto>> getActiveUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<UserDto> users = userService.getAllActiveUsers(cursor, size);
         return ResponseEntity.ok(users);
     }
     
@@ -76,8 +97,10 @@ public class AdminController {
     
     // Tour Management
     @GetMapping("/tours")
-    public ResponseEntity<List<TourDto>> getAllTours() {
-        List<TourDto> tours = tourService.getAllTours();
+    public ResponseEntity<CursorPage<TourDto>> getAllTours(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<TourDto> tours = tourService.getAllTours(cursor, size);
         return ResponseEntity.ok(tours);
     }
     
@@ -87,6 +110,31 @@ public class AdminController {
         return ResponseEntity.ok(createdTour);
     }
     
+    @PostMapping(value = "/tours/import", consumes = "text/csv")
+    public ResponseEntity<TourImportResultDto> importToursCsv(InputStream body) throws IOException {
+        TourImportResultDto result = tourTransferService.importTours(body, TourTransferService.Format.CSV);
+        return ResponseEntity.ok(result);
+    }
+    
+    @PostMapping(value = "/tours/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TourImportResultDto> importToursJson(InputStream body) throws IOException {
+        TourImportResultDto result = tourTransferService.importTours(body, TourTransferService.Format.JSON);
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/tours/export")
+    public ResponseEntity<StreamingResponseBody> exportTours(
+            @RequestParam(defaultValue = "JSON") TourTransferService.Format format) {
+        MediaType contentType = format == TourTransferService.Format.CSV
+                ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                : MediaType.APPLICATION_JSON;
+        String filename = "tours." + format.name().toLowerCase(Locale.ROOT);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(output -> tourTransferService.exportTours(output, format));
+    }
+    
     @PutMapping("/tours/{id}")
     public ResponseEntity<TourDto> updateTour(@PathVariable Long id, @RequestBody TourDto tourDto) {
         TourDto updatedTour = tourService.updateTour(id, tourDto);
@@ -113,14 +161,19 @@ public class AdminController {
     
     // Booking Management
     @GetMapping("/bookings")
-    public ResponseEntity<List<BookingDto>> getAllBookings() {
-        List<BookingDto> bookings = bookingService.getAllBookings();
+    public ResponseEntity<CursorPage<BookingDto>> getAllBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<BookingDto> bookings = bookingService.getAllBookings(cursor, size);
         return ResponseEntity.ok(bookings);
     }
     
     @GetMapping("/bookings/status/{status}")
-    public ResponseEntity<List<BookingDto>> getBookingsByStatus(@PathVariable Booking.BookingStatus status) {
-        List<BookingDto> bookings = bookingService.getBookingsByStatus(status);
+    public ResponseEntity<CursorPage<BookingDto>> getBookingsByStatus(
+            @PathVariable Booking.BookingStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<BookingDto> bookings = bookingService.getBookingsByStatus(status, cursor, size);
         return ResponseEntity.ok(bookings);
     }
     
@@ -152,4 +205,38 @@ public class AdminController {
         
         return ResponseEntity.ok(stats);
     }
-} 
\ No newline at end of file
+    
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+        return ResponseEntity.ok(cacheManager.stats());
+    }
+    
+    // Reports
+    @GetMapping("/reports/revenue")
+    public ResponseEntity<List<ReportRowDto>> getRevenueReport(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(defaultValue = "DAY") ReportRowDto.Granularity granularity,
+            @RequestParam(defaultValue = "NONE") ReportRowDto.Dimension groupBy) {
+        List<ReportRowDto> report = reportService.getRevenueReport(from, to, granularity, groupBy);
+        return ResponseEntity.ok(report);
+    }
+    
+    @GetMapping("/reports/bookings")
+    public ResponseEntity<List<ReportRowDto>> getBookingReport(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(defaultValue = "DAY") ReportRowDto.Granularity granularity,
+            @RequestParam(defaultValue = "NONE") ReportRowDto.Dimension groupBy) {
+        List<ReportRowDto> report = reportService.getBookingReport(from, to, granularity, groupBy);
+        return ResponseEntity.ok(report);
+    }
+    
+    @PostMapping("/reports/backfill")
+    public ResponseEntity<Map<String, Integer>> backfillReports(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        int rows = reportService.backfill(from, to);
+        return ResponseEntity.ok(Map.of("rollupRows", rows));
+    }
+}
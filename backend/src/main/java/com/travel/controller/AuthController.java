@@ -3,6 +3,7 @@ package com.travel.controller;
 import com.travel.dto.LoginDto;
 import com.travel.dto.UserDto;
 import com.travel.dto.UserRegistrationDto;
+import com.travel.entity.User;
 import com.travel.security.JwtService;
 import com.travel.service.UserService;
 import jakarta.validation.Valid;
@@ -11,7 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -44,12 +44,10 @@ public class AuthController {
                 new UsernamePasswordAuthenticationToken(loginDto.getEmail(), loginDto.getPassword())
         );
         
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        UserDto userDto = userService.getUserByEmail(loginDto.getEmail());
-        String token = jwtService.generateToken(userDetails);
-        
-        // Update last login
-        userService.updateLastLogin(userDto.getId());
+        // The principal is the user loaded during authentication; last login is written behind
+        User user = (User) authentication.getPrincipal();
+        String token = jwtService.generateToken(user);
+        UserDto userDto = userService.recordLogin(user);
         
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Login successful");
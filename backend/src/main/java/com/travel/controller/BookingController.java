@@ -1,6 +1,7 @@
 package com.travel.controller;
 
 import com.travel.dto.BookingDto;
+import com.travel.dto.CursorPage;
 import com.travel.entity.Booking;
 import com.travel.service.BookingService;
 import jakarta.validation.Valid;
@@ -20,8 +21,10 @@ public class BookingController {
     private final BookingService bookingService;
     
     @GetMapping
-    public ResponseEntity<List<BookingDto>> getAllBookings() {
-        List<BookingDto> bookings = bookingService.getAllBookings();
+    public ResponseEntity<CursorPage<BookingDto>> getAllBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<BookingDto> bookings = bookingService.getAllBookings(cursor, size);
         return ResponseEntity.ok(bookings);
     }
     
@@ -44,8 +47,11 @@ public class BookingController {
     }
     
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<BookingDto>> getBookingsByStatus(@PathVariable Booking.BookingStatus status) {
-        List<BookingDto> bookings = bookingService.getBookingsByStatus(status);
+    public ResponseEntity<CursorPage<BookingDto>> getBookingsByStatus(
+            @PathVariable Booking.BookingStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<BookingDto> bookings = bookingService.getBookingsByStatus(status, cursor, size);
         return ResponseEntity.ok(bookings);
     }
     
@@ -0,0 +1,57 @@
+package com.travel.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for catalog reads. The validators come from the catalog version, so a matching
+ * {@code If-None-Match} is answered with 304 before the body is looked up or serialized.
+ */
+final class CatalogResponses {
+
+    // Shared caches may keep the body but have to revalidate, which re-runs authentication on every use.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private CatalogResponses() {
+    }
+
+    static <T> ResponseEntity<T> conditional(WebRequest request, String version, long lastModified, Supplier<T> body) {
+        return conditional(request, version, lastModified, null, body);
+    }
+
+    /**
+     * Same as {@link #conditional}, for bodies that are already rendered JSON.
+     */
+    static ResponseEntity<byte[]> conditionalJson(WebRequest request, String version, long lastModified,
+                                                  Supplier<byte[]> json) {
+        return conditional(request, version, lastModified, MediaType.APPLICATION_JSON, json);
+    }
+
+    static ResponseEntity<byte[]> json(byte[] json) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+    }
+
+    private static <T> ResponseEntity<T> conditional(WebRequest request, String version, long lastModified,
+                                                     MediaType contentType, Supplier<T> body) {
+        if (request.checkNotModified(version, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(version)
+                    .lastModified(lastModified)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(version)
+                .lastModified(lastModified)
+                .cacheControl(REVALIDATE);
+        if (contentType != null) {
+            response.contentType(contentType);
+        }
+        return response.body(body.get());
+    }
+}
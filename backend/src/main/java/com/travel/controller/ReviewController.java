@@ -1,11 +1,14 @@
 package com.travel.controller;
 
+import com.travel.dto.CursorPage;
 import com.travel.dto.ReviewDto;
 import com.travel.service.ReviewService;
+import com.travel.service.TourService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,10 +19,13 @@ import java.util.List;
 public class ReviewController {
     
     private final ReviewService reviewService;
+    private final TourService tourService;
     
     @GetMapping
-    public ResponseEntity<List<ReviewDto>> getAllReviews() {
-        List<ReviewDto> reviews = reviewService.getAllReviews();
+    public ResponseEntity<CursorPage<ReviewDto>> getAllReviews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<ReviewDto> reviews = reviewService.getAllReviews(cursor, size);
         return ResponseEntity.ok(reviews);
     }
     
@@ -36,9 +42,10 @@ public class ReviewController {
     }
     
     @GetMapping("/tour/{tourId}")
-    public ResponseEntity<List<ReviewDto>> getTourReviews(@PathVariable Long tourId) {
-        List<ReviewDto> reviews = reviewService.getTourReviews(tourId);
-        return ResponseEntity.ok(reviews);
+    public ResponseEntity<List<ReviewDto>> getTourReviews(@PathVariable Long tourId, WebRequest request) {
+        // review writes republish their tour, so the catalog version covers them as well
+        return CatalogResponses.conditional(request, tourService.getCatalogVersion(),
+                tourService.getCatalogLastModified(), () -> reviewService.getTourReviews(tourId));
     }
     
     @GetMapping("/rating/{rating}")
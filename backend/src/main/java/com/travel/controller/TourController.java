@@ -1,14 +1,23 @@
 package com.travel.controller;
 
+import com.travel.catalog.TourJsonCache;
+import com.travel.dto.NearbyTourDto;
+import com.travel.dto.TourAvailabilityDto;
 import com.travel.dto.TourDto;
+import com.travel.dto.TourFilterDto;
+import com.travel.dto.TourFilterResultDto;
+import com.travel.dto.TourSuggestionDto;
 import com.travel.entity.Tour;
+import com.travel.service.TourDepartureService;
 import com.travel.service.TourService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,40 +27,80 @@ import java.util.List;
 public class TourController {
     
     private final TourService tourService;
+    private final TourDepartureService tourDepartureService;
+    private final TourJsonCache tourJson;
     
     @GetMapping
-    public ResponseEntity<List<TourDto>> getAllTours() {
-        List<TourDto> tours = tourService.getAllActiveTours();
-        return ResponseEntity.ok(tours);
+    public ResponseEntity<byte[]> getAllTours(WebRequest request) {
+        return CatalogResponses.conditionalJson(request, tourService.getCatalogVersion(),
+                tourService.getCatalogLastModified(), () -> tourJson.list("active", tourService.getAllActiveTours()));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<TourDto> getTourById(@PathVariable Long id) {
-        TourDto tour = tourService.getTourById(id);
-        return ResponseEntity.ok(tour);
+    public ResponseEntity<byte[]> getTourById(@PathVariable Long id, WebRequest request) {
+        return CatalogResponses.conditionalJson(request, tourService.getCatalogVersion(),
+                tourService.getCatalogLastModified(), () -> tourJson.tour(tourService.getTourById(id)));
+    }
+    
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<TourAvailabilityDto> getAvailability(
+            @PathVariable Long id,
+            @RequestParam LocalDate travelDate) {
+        TourAvailabilityDto availability = tourDepartureService.getAvailability(id, travelDate);
+        return ResponseEntity.ok(availability);
     }
     
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<TourDto>> getToursByCategory(@PathVariable Tour.Category category) {
+    public ResponseEntity<byte[]> getToursByCategory(@PathVariable Tour.Category category) {
         List<TourDto> tours = tourService.getToursByCategory(category);
-        return ResponseEntity.ok(tours);
+        return CatalogResponses.json(tourJson.list("category:" + category, tours));
     }
     
     @GetMapping("/destination/{destination}")
-    public ResponseEntity<List<TourDto>> getToursByDestination(@PathVariable String destination) {
+    public ResponseEntity<byte[]> getToursByDestination(@PathVariable String destination) {
         List<TourDto> tours = tourService.getToursByDestination(destination);
-        return ResponseEntity.ok(tours);
+        // keyed by the matched destination so misspellings share one cached payload
+        String view = tours.isEmpty() ? destination : tours.get(0).getDestination();
+        return CatalogResponses.json(tourJson.list("destination:" + view, tours));
     }
     
     @GetMapping("/difficulty/{difficulty}")
-    public ResponseEntity<List<TourDto>> getToursByDifficulty(@PathVariable Tour.Difficulty difficulty) {
+    public ResponseEntity<byte[]> getToursByDifficulty(@PathVariable Tour.Difficulty difficulty) {
         List<TourDto> tours = tourService.getToursByDifficulty(difficulty);
-        return ResponseEntity.ok(tours);
+        return CatalogResponses.json(tourJson.list("difficulty:" + difficulty, tours));
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<TourDto>> searchTours(@RequestParam String query) {
-        List<TourDto> tours = tourService.searchTours(query);
+    public ResponseEntity<List<TourDto>> searchTours(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<TourDto> tours = tourService.searchTours(query, page, size);
+        return ResponseEntity.ok(tours);
+    }
+    
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TourSuggestionDto>> suggestTours(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<TourSuggestionDto> suggestions = tourService.suggestTours(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+    
+    @GetMapping("/filter")
+    public ResponseEntity<TourFilterResultDto> filterTours(TourFilterDto filter) {
+        TourFilterResultDto result = tourService.filterTours(filter);
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyTourDto>> getNearbyTours(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Tour.Category category,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<NearbyTourDto> tours = tourService.getNearbyTours(lat, lng, radiusKm, category, limit);
         return ResponseEntity.ok(tours);
     }
     
@@ -72,15 +121,19 @@ public class TourController {
     }
     
     @GetMapping("/top-rated")
-    public ResponseEntity<List<TourDto>> getTopRatedTours() {
-        List<TourDto> tours = tourService.getTopRatedTours();
-        return ResponseEntity.ok(tours);
+    public ResponseEntity<byte[]> getTopRatedTours(
+            @RequestParam(required = false) Tour.Category category,
+            @RequestParam(required = false) Integer limit) {
+        List<TourDto> tours = tourService.getTopRatedTours(category, limit);
+        return CatalogResponses.json(tourJson.list(tours));
     }
     
     @GetMapping("/latest")
-    public ResponseEntity<List<TourDto>> getLatestTours() {
-        List<TourDto> tours = tourService.getLatestTours();
-        return ResponseEntity.ok(tours);
+    public ResponseEntity<byte[]> getLatestTours(
+            @RequestParam(required = false) Tour.Category category,
+            @RequestParam(required = false) Integer limit) {
+        List<TourDto> tours = tourService.getLatestTours(category, limit);
+        return CatalogResponses.json(tourJson.list(tours));
     }
     
     @PostMapping
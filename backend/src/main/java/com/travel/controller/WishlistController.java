@@ -1,12 +1,12 @@
 package com.travel.controller;
 
+import com.travel.dto.CursorPage;
 import com.travel.dto.TourDto;
 import com.travel.service.WishlistService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/wishlist")
@@ -17,22 +17,26 @@ public class WishlistController {
     private final WishlistService wishlistService;
     
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<TourDto>> getUserWishlist(@PathVariable Long userId) {
-        List<TourDto> wishlist = wishlistService.getUserWishlist(userId);
+    public ResponseEntity<CursorPage<TourDto>> getUserWishlist(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<TourDto> wishlist = wishlistService.getUserWishlist(userId, cursor, size);
         return ResponseEntity.ok(wishlist);
     }
     
     @GetMapping("/my-wishlist")
-    public ResponseEntity<List<TourDto>> getCurrentUserWishlist() {
-        List<TourDto> wishlist = wishlistService.getCurrentUserWishlist();
+    public ResponseEntity<CursorPage<TourDto>> getCurrentUserWishlist(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<TourDto> wishlist = wishlistService.getCurrentUserWishlist(cursor, size);
         return ResponseEntity.ok(wishlist);
     }
     
     @GetMapping("/check/{tourId}")
     public ResponseEntity<Boolean> isInWishlist(@PathVariable Long tourId) {
-        // This would need to get current user ID from security context
-        // For now, returning false as placeholder
-        return ResponseEntity.ok(false);
+        boolean inWishlist = wishlistService.isInCurrentUserWishlist(tourId);
+        return ResponseEntity.ok(inWishlist);
     }
     
     @PostMapping("/add")
@@ -1,17 +1,27 @@
 package com.travel.dao;
 
+import com.travel.dto.BookingDto;
 import com.travel.entity.Booking;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingDao extends JpaRepository<Booking, Long> {
     
+    String SELECT_BOOKING_DTO = "SELECT new com.travel.dto.BookingDto(b.id, u.id, t.id, t.title, t.imageUrl, t.destination, "
+            + "u.email, CONCAT(u.firstName, ' ', u.lastName), b.bookingDate, b.travelDate, b.endDate, b.guests, "
+            + "b.totalAmount, b.status, b.paymentStatus, b.paymentMethod, b.createdAt) "
+            + "FROM Booking b JOIN b.user u JOIN b.tour t ";
+    
     List<Booking> findByUserId(Long userId);
     
     List<Booking> findByTourId(Long tourId);
@@ -34,6 +44,41 @@ public interface BookingDao extends JpaRepository<Booking, Long> {
     @Query("SELECT COALESCE(SUM(b.totalAmount), 0) FROM Booking b WHERE b.paymentStatus = 'PAID'")
     Double getTotalRevenue();
     
+    @Query("SELECT COALESCE(SUM(b.guests), 0) FROM Booking b " +
+           "WHERE b.tour.id = :tourId AND b.travelDate = :travelDate AND b.status <> 'CANCELLED'")
+    Long sumBookedGuests(@Param("tourId") Long tourId, @Param("travelDate") LocalDate travelDate);
+    
     @Query("SELECT b FROM Booking b WHERE b.user.id = :userId AND b.status = :status")
     List<Booking> findUserBookingsByStatus(@Param("userId") Long userId, @Param("status") Booking.BookingStatus status);
-} 
\ No newline at end of file
+    
+    @Query(SELECT_BOOKING_DTO + "WHERE b.id = :id")
+    Optional<BookingDto> findDtoById(@Param("id") Long id);
+    
+    @Query(SELECT_BOOKING_DTO + "WHERE b.id > :afterId ORDER BY b.id ASC")
+    List<BookingDto> findDtosAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query(SELECT_BOOKING_DTO + "WHERE b.status = :status AND b.id > :afterId ORDER BY b.id ASC")
+    List<BookingDto> findDtosByStatusAfter(@Param("status") Booking.BookingStatus status, @Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query(SELECT_BOOKING_DTO + "WHERE u.id = :userId ORDER BY b.createdAt DESC")
+    List<BookingDto> findUserBookingDtos(@Param("userId") Long userId);
+    
+    @Query(SELECT_BOOKING_DTO + "WHERE t.id = :tourId ORDER BY b.createdAt DESC")
+    List<BookingDto> findTourBookingDtos(@Param("tourId") Long tourId);
+    
+    @Query(SELECT_BOOKING_DTO + "WHERE b.paymentStatus = :paymentStatus")
+    List<BookingDto> findDtosByPaymentStatus(@Param("paymentStatus") Booking.PaymentStatus paymentStatus);
+    
+    @Query(SELECT_BOOKING_DTO + "WHERE b.travelDate BETWEEN :startDate AND :endDate")
+    List<BookingDto> findDtosByTravelDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    // Stamps bookings made before rollup attribution was stored with their tour's current category and destination.
+    @Modifying
+    @Query(value = "UPDATE bookings b SET " +
+            "tour_category = (SELECT COALESCE(t.category, 'UNCATEGORIZED') FROM tours t WHERE t.id = b.tour_id), " +
+            "tour_destination = (SELECT t.destination FROM tours t WHERE t.id = b.tour_id) " +
+            "WHERE b.tour_category IS NULL " +
+            "AND COALESCE(b.created_at, b.booking_date) >= :from AND COALESCE(b.created_at, b.booking_date) < :to",
+            nativeQuery = true)
+    int attributeUnattributed(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
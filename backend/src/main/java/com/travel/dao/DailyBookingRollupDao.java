@@ -0,0 +1,49 @@
+package com.travel.dao;
+
+import com.travel.entity.DailyBookingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DailyBookingRollupDao extends JpaRepository<DailyBookingRollup, Long> {
+    
+    @Query("SELECT r FROM DailyBookingRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    List<DailyBookingRollup> findInRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    @Modifying
+    @Query(value = "INSERT INTO booking_rollups_daily " +
+            "(bucket_start, category, destination, payment_status, booking_status, booking_count, amount) " +
+            "VALUES (:bucketStart, :category, :destination, :paymentStatus, :bookingStatus, :count, :amount) " +
+            "ON DUPLICATE KEY UPDATE booking_count = booking_count + :count, amount = amount + :amount",
+            nativeQuery = true)
+    int increment(@Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("category") String category,
+                  @Param("destination") String destination,
+                  @Param("paymentStatus") String paymentStatus,
+                  @Param("bookingStatus") String bookingStatus,
+                  @Param("count") long count,
+                  @Param("amount") BigDecimal amount);
+    
+    @Modifying
+    @Query("DELETE FROM DailyBookingRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteInRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    @Modifying
+    @Query(value = "INSERT INTO booking_rollups_daily " +
+            "(bucket_start, category, destination, payment_status, booking_status, booking_count, amount) " +
+            "SELECT TIMESTAMP(DATE(COALESCE(b.created_at, b.booking_date))), " +
+            "COALESCE(b.tour_category, t.category, 'UNCATEGORIZED'), COALESCE(b.tour_destination, t.destination), " +
+            "COALESCE(b.payment_status, 'PENDING'), COALESCE(b.status, 'PENDING'), COUNT(*), SUM(b.total_amount) " +
+            "FROM bookings b JOIN tours t ON t.id = b.tour_id " +
+            "WHERE COALESCE(b.created_at, b.booking_date) >= :from AND COALESCE(b.created_at, b.booking_date) < :to " +
+            "GROUP BY 1, 2, 3, 4, 5",
+            nativeQuery = true)
+    int backfill(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,6 +1,7 @@
 package com.travel.dao;
 
 import com.travel.entity.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +18,8 @@ public interface ReviewDao extends JpaRepository<Review, Long> {
     
     List<Review> findByRating(Integer rating);
     
+    List<Review> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
     @Query("SELECT r FROM Review r WHERE r.tour.id = :tourId ORDER BY r.createdAt DESC")
     List<Review> findTourReviewsOrderByDate(@Param("tourId") Long tourId);
     
@@ -29,6 +32,9 @@ public interface ReviewDao extends JpaRepository<Review, Long> {
     @Query("SELECT COUNT(r) FROM Review r WHERE r.tour.id = :tourId")
     Long countReviewsByTourId(@Param("tourId") Long tourId);
     
+    @Query("SELECT r.tour.id, COALESCE(SUM(r.rating), 0), COUNT(r) FROM Review r GROUP BY r.tour.id")
+    List<Object[]> sumRatingsByTour();
+    
     @Query("SELECT r FROM Review r WHERE r.tour.id = :tourId AND r.rating >= :minRating")
     List<Review> findTourReviewsByMinRating(@Param("tourId") Long tourId, @Param("minRating") Integer minRating);
 } 
\ No newline at end of file
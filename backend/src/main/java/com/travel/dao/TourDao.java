@@ -2,12 +2,15 @@ package com.travel.dao;
 
 import com.travel.entity.Tour;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TourDao extends JpaRepository<Tour, Long> {
@@ -24,9 +27,6 @@ public interface TourDao extends JpaRepository<Tour, Long> {
     
     List<Tour> findByDurationBetween(Integer minDuration, Integer maxDuration);
     
-    @Query("SELECT t FROM Tour t WHERE t.isActive = true AND (t.title LIKE %:searchTerm% OR t.description LIKE %:searchTerm% OR t.destination LIKE %:searchTerm%)")
-    List<Tour> searchTours(@Param("searchTerm") String searchTerm);
-    
     @Query("SELECT t FROM Tour t WHERE t.isActive = true AND t.category = :category AND t.price BETWEEN :minPrice AND :maxPrice")
     List<Tour> findByCategoryAndPriceRange(@Param("category") Tour.Category category, 
                                          @Param("minPrice") BigDecimal minPrice, 
@@ -37,4 +37,40 @@ public interface TourDao extends JpaRepository<Tour, Long> {
     
     @Query("SELECT t FROM Tour t WHERE t.isActive = true ORDER BY t.createdAt DESC")
     List<Tour> findLatestTours();
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tour t SET t.ratingSum = t.ratingSum + :ratingDelta, t.reviewCount = t.reviewCount + :countDelta, "
+            + "t.version = t.version + 1 WHERE t.id = :id")
+    int adjustRatingTotals(@Param("id") Long id, @Param("ratingDelta") long ratingDelta, @Param("countDelta") int countDelta);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tour t SET t.ratingSum = (SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.tour.id = t.id), "
+            + "t.reviewCount = (SELECT COUNT(r) FROM Review r WHERE r.tour.id = t.id), "
+            + "t.version = t.version + 1 WHERE t.id = :id")
+    int recomputeRatingTotals(@Param("id") Long id);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tour t SET t.rating = CASE WHEN t.reviewCount > 0 THEN 1.0 * t.ratingSum / t.reviewCount ELSE 0.0 END "
+            + "WHERE t.id = :id")
+    int refreshRating(@Param("id") Long id);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tour t SET t.ratingSum = (SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.tour.id = t.id), "
+            + "t.reviewCount = (SELECT COUNT(r) FROM Review r WHERE r.tour.id = t.id), "
+            + "t.version = t.version + 1 WHERE t.id IN :ids")
+    int recomputeRatingTotals(@Param("ids") Collection<Long> ids);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tour t SET t.rating = CASE WHEN t.reviewCount > 0 THEN 1.0 * t.ratingSum / t.reviewCount ELSE 0.0 END "
+            + "WHERE t.id IN :ids")
+    int refreshRatings(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT t.id, t.ratingSum, t.reviewCount FROM Tour t")
+    List<Object[]> findRatingTotals();
+    
+    @Query("SELECT DISTINCT t FROM Tour t LEFT JOIN FETCH t.includes")
+    List<Tour> findAllWithIncludes();
+    
+    @Query("SELECT t FROM Tour t LEFT JOIN FETCH t.includes WHERE t.id = :id")
+    Optional<Tour> findByIdWithIncludes(@Param("id") Long id);
 } 
\ No newline at end of file
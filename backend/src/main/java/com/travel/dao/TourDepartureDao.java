@@ -0,0 +1,53 @@
+package com.travel.dao;
+
+import com.travel.entity.TourDeparture;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface TourDepartureDao extends JpaRepository<TourDeparture, Long> {
+    
+    Optional<TourDeparture> findByTourIdAndTravelDate(Long tourId, LocalDate travelDate);
+    
+    // Seeds booked_seats from bookings made before the departure row existed; a concurrent
+    // insert for the same (tour, date) waits on the unique key and is then ignored.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tour_departures (tour_id, travel_date, capacity, booked_seats) " +
+            "SELECT :tourId, :travelDate, :capacity, COALESCE(SUM(b.guests), 0) FROM bookings b " +
+            "WHERE b.tour_id = :tourId AND b.travel_date = :travelDate AND b.status <> 'CANCELLED'",
+            nativeQuery = true)
+    int createIfAbsent(@Param("tourId") Long tourId,
+                       @Param("travelDate") LocalDate travelDate,
+                       @Param("capacity") Integer capacity);
+    
+    @Modifying
+    @Query("UPDATE TourDeparture d SET d.bookedSeats = d.bookedSeats + :seats " +
+           "WHERE d.tour.id = :tourId AND d.travelDate = :travelDate AND d.bookedSeats + :seats <= d.capacity")
+    int reserveSeats(@Param("tourId") Long tourId,
+                     @Param("travelDate") LocalDate travelDate,
+                     @Param("seats") int seats);
+    
+    @Modifying
+    @Query("UPDATE TourDeparture d SET d.bookedSeats = d.bookedSeats - :seats " +
+           "WHERE d.tour.id = :tourId AND d.travelDate = :travelDate AND d.bookedSeats >= :seats")
+    int releaseSeats(@Param("tourId") Long tourId,
+                     @Param("travelDate") LocalDate travelDate,
+                     @Param("seats") int seats);
+    
+    // Seats are not reserved while a tour has no capacity, so booked_seats is recounted from the bookings.
+    @Modifying
+    @Query(value = "UPDATE tour_departures d SET d.capacity = :capacity, d.booked_seats = " +
+            "(SELECT COALESCE(SUM(b.guests), 0) FROM bookings b " +
+            "WHERE b.tour_id = d.tour_id AND b.travel_date = d.travel_date AND b.status <> 'CANCELLED') " +
+            "WHERE d.tour_id = :tourId AND d.travel_date >= :fromDate",
+            nativeQuery = true)
+    int updateCapacity(@Param("tourId") Long tourId,
+                       @Param("capacity") Integer capacity,
+                       @Param("fromDate") LocalDate fromDate);
+}
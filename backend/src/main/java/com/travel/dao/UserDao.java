@@ -1,11 +1,16 @@
 package com.travel.dao;
 
 import com.travel.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +28,14 @@ public interface UserDao extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.role = 'USER' AND u.isActive = true")
     List<User> findAllActiveUsers();
     
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    @Query("SELECT u FROM User u WHERE u.role = 'USER' AND u.isActive = true AND u.id > :afterId ORDER BY u.id ASC")
+    List<User> findActiveUsersAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT u.id FROM User u WHERE u.isActive = false")
+    List<Long> findInactiveUserIds();
+    
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = 'USER'")
     Long countAllUsers();
     
@@ -31,4 +44,14 @@ public interface UserDao extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM User u WHERE u.firstName LIKE %:searchTerm% OR u.lastName LIKE %:searchTerm% OR u.email LIKE %:searchTerm%")
     List<User> searchUsers(@Param("searchTerm") String searchTerm);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.lastLogin = :lastLogin WHERE u.id IN :ids")
+    int updateLastLogin(@Param("ids") Collection<Long> ids, @Param("lastLogin") LocalDateTime lastLogin);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 } 
\ No newline at end of file
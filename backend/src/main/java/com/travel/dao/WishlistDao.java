@@ -1,10 +1,12 @@
 package com.travel.dao;
 
 import com.travel.entity.Wishlist;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,8 +23,14 @@ public interface WishlistDao extends JpaRepository<Wishlist, Long> {
     @Query("SELECT w FROM Wishlist w WHERE w.user.id = :userId ORDER BY w.addedAt DESC")
     List<Wishlist> findUserWishlistOrderByDate(@Param("userId") Long userId);
     
+    List<Wishlist> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long id, Pageable pageable);
+    
+    @Query("SELECT w.tour.id FROM Wishlist w WHERE w.user.id = :userId")
+    List<Long> findTourIdsByUserId(@Param("userId") Long userId);
+    
     @Query("SELECT COUNT(w) FROM Wishlist w WHERE w.tour.id = :tourId")
     Long countWishlistByTourId(@Param("tourId") Long tourId);
     
+    @Transactional
     void deleteByUserIdAndTourId(Long userId, Long tourId);
 } 
\ No newline at end of file
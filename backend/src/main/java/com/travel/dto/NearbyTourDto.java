@@ -0,0 +1,13 @@
+package com.travel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyTourDto {
+    private TourDto tour;
+    private Double distanceKm;
+}
@@ -0,0 +1,26 @@
+package com.travel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportRowDto {
+    private LocalDateTime periodStart;
+    private String group;
+    private Long bookings;
+    private BigDecimal amount;
+    
+    public enum Granularity {
+        HOUR, DAY, WEEK, MONTH
+    }
+    
+    public enum Dimension {
+        NONE, CATEGORY, DESTINATION, PAYMENT_STATUS
+    }
+}
@@ -0,0 +1,18 @@
+package com.travel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourAvailabilityDto {
+    private Long tourId;
+    private LocalDate travelDate;
+    private Integer capacity;
+    private Integer bookedSeats;
+    private Integer availableSeats;
+}
@@ -1,5 +1,6 @@
 package com.travel.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.travel.entity.Tour;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -19,6 +20,8 @@ public class TourDto {
     private BigDecimal price;
     private Integer duration;
     private String destination;
+    private Double latitude;
+    private Double longitude;
     private Tour.Category category;
     private String imageUrl;
     private List<String> includes;
@@ -28,4 +31,7 @@ public class TourDto {
     private Integer reviewCount;
     private Boolean isActive;
     private LocalDateTime createdAt;
+    // entity version the DTO was read at; lets the catalog drop a change that arrives after a newer one
+    @JsonIgnore
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.travel.dto;
+
+import com.travel.entity.Tour;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TourFilterDto {
+    private List<Tour.Category> category;     // any of
+    private List<Tour.Difficulty> difficulty; // any of
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Integer minDuration;
+    private Integer maxDuration;
+    private int page = 0;
+    private int size = 20;
+}
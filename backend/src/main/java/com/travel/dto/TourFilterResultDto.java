@@ -0,0 +1,17 @@
+package com.travel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourFilterResultDto {
+    private List<TourDto> tours;
+    private Integer total;
+    private Map<String, Map<String, Integer>> facets; // facet -> value or bucket -> matching tours
+}
@@ -0,0 +1,16 @@
+package com.travel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourImportResultDto {
+    private Integer imported;
+    private Integer rejected;
+    private List<String> errors; // first rejected rows only, "row N: reason"
+}
@@ -0,0 +1,19 @@
+package com.travel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourSuggestionDto {
+    private String text;
+    private Type type;
+    private Long tourId; // set for titles only
+    private Double weight;
+    
+    public enum Type {
+        DESTINATION, TITLE
+    }
+}
@@ -53,6 +53,13 @@ public class Booking {
     @Column(name = "payment_method")
     private String paymentMethod;
     
+    // Tour category and destination the booking was counted under in the reporting rollups
+    @Column(name = "tour_category")
+    private String tourCategory;
+    
+    @Column(name = "tour_destination")
+    private String tourDestination;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -0,0 +1,47 @@
+package com.travel.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Booking count and amount for one time bucket and one combination of tour category, destination,
+ * payment status and booking status. Bookings are bucketed by creation time.
+ */
+@MappedSuperclass
+@Data
+@NoArgsConstructor
+public abstract class BookingRollup {
+    
+    public static final String UNCATEGORIZED = "UNCATEGORIZED";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(nullable = false, length = 32)
+    private String category;
+    
+    @Column(nullable = false)
+    private String destination;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false, length = 16)
+    private Booking.PaymentStatus paymentStatus;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "booking_status", nullable = false, length = 16)
+    private Booking.BookingStatus bookingStatus;
+    
+    @Column(name = "booking_count", nullable = false)
+    private Long bookingCount;
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+}
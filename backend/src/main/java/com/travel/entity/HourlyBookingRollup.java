@@ -0,0 +1,12 @@
+package com.travel.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+@Entity
+@Table(name = "booking_rollups_hourly",
+        uniqueConstraints = @UniqueConstraint(columnNames = {
+                "bucket_start", "category", "destination", "payment_status", "booking_status"}))
+public class HourlyBookingRollup extends BookingRollup {
+}
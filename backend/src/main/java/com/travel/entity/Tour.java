@@ -33,6 +33,10 @@ public class Tour {
     @Column(nullable = false)
     private String destination;
     
+    private Double latitude;
+    
+    private Double longitude;
+    
     @Enumerated(EnumType.STRING)
     private Category category;
     
@@ -56,6 +60,13 @@ public class Tour {
     @Column(name = "review_count")
     private Integer reviewCount = 0;
     
+    @Column(name = "rating_sum", nullable = false, columnDefinition = "bigint default 0")
+    private Long ratingSum = 0L;
+    
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
     @Column(name = "is_active")
     private Boolean isActive = true;
     
@@ -71,6 +82,9 @@ public class Tour {
     @OneToMany(mappedBy = "tour", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Wishlist> wishlistItems;
     
+    @OneToMany(mappedBy = "tour", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private List<TourDeparture> departures;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
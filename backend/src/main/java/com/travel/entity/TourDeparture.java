@@ -0,0 +1,32 @@
+package com.travel.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "tour_departures",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"tour_id", "travel_date"}))
+@Data
+@NoArgsConstructor
+public class TourDeparture {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tour_id", nullable = false)
+    private Tour tour;
+    
+    @Column(name = "travel_date", nullable = false)
+    private LocalDate travelDate;
+    
+    @Column(nullable = false)
+    private Integer capacity;
+    
+    @Column(name = "booked_seats", nullable = false)
+    private Integer bookedSeats = 0;
+}
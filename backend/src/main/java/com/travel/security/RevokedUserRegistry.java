@@ -0,0 +1,51 @@
+package com.travel.security;
+
+import com.travel.dao.UserDao;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Users whose tokens must no longer be accepted, with the time they were revoked. Tokens issued
+ * before that time are rejected; entries are dropped once every such token has expired.
+ * Deactivated users are seeded on startup so revocations survive a restart.
+ */
+@Component
+@RequiredArgsConstructor
+public class RevokedUserRegistry {
+
+    private final UserDao userDao;
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    @Value("${jwt.expiration}")
+    private long jwtExpiration;
+
+    @PostConstruct
+    void loadDeactivatedUsers() {
+        long now = System.currentTimeMillis();
+        userDao.findInactiveUserIds().forEach(userId -> revokedAt.putIfAbsent(userId, now));
+    }
+
+    public void revoke(Long userId) {
+        revokedAt.put(userId, System.currentTimeMillis());
+    }
+
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long revokedTime = revokedAt.get(userId);
+        // iat only has whole seconds, so a token from the second of the revocation cannot be shown to postdate it
+        return revokedTime != null
+                && (issuedAt == null || issuedAt.getTime() / 1000 <= revokedTime / 1000);
+    }
+
+    @Scheduled(fixedDelay = 3600000)
+    public void pruneExpired() {
+        long cutoff = System.currentTimeMillis() - jwtExpiration;
+        revokedAt.values().removeIf(revokedTime -> revokedTime < cutoff);
+    }
+}
@@ -0,0 +1,73 @@
+package com.travel.security;
+
+import com.travel.entity.User;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal rebuilt from the claims of a verified token, used when
+ * {@code jwt.stateless-principal.enabled} is set so authenticated requests skip the user lookup.
+ */
+@Getter
+public class TokenPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final User.Role role;
+
+    private TokenPrincipal(Long id, String email, User.Role role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+    }
+
+    static TokenPrincipal fromClaims(Claims claims) {
+        Object userId = claims.get(JwtService.USER_ID_CLAIM);
+        Object role = claims.get(JwtService.ROLE_CLAIM);
+        if (!(userId instanceof Number) || !(role instanceof String)) {
+            return null;
+        }
+        return new TokenPrincipal(((Number) userId).longValue(), claims.getSubject(), User.Role.valueOf((String) role));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package com.travel.service;
 
 import com.travel.dto.BookingDto;
+import com.travel.dto.CursorPage;
 import com.travel.entity.Booking;
 
 import java.time.LocalDate;
@@ -12,13 +13,13 @@ public interface BookingService {
     
     BookingDto getBookingById(Long id);
     
-    List<BookingDto> getAllBookings();
+    CursorPage<BookingDto> getAllBookings(String cursor, int size);
     
     List<BookingDto> getUserBookings(Long userId);
     
     List<BookingDto> getTourBookings(Long tourId);
     
-    List<BookingDto> getBookingsByStatus(Booking.BookingStatus status);
+    CursorPage<BookingDto> getBookingsByStatus(Booking.BookingStatus status, String cursor, int size);
     
     List<BookingDto> getBookingsByPaymentStatus(Booking.PaymentStatus paymentStatus);
     
@@ -0,0 +1,17 @@
+package com.travel.service;
+
+import com.travel.dto.ReportRowDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReportService {
+    
+    List<ReportRowDto> getRevenueReport(LocalDate from, LocalDate to,
+                                        ReportRowDto.Granularity granularity, ReportRowDto.Dimension groupBy);
+    
+    List<ReportRowDto> getBookingReport(LocalDate from, LocalDate to,
+                                        ReportRowDto.Granularity granularity, ReportRowDto.Dimension groupBy);
+    
+    int backfill(LocalDate from, LocalDate to);
+}
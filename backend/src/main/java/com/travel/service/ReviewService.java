@@ -1,5 +1,6 @@
 package com.travel.service;
 
+import com.travel.dto.CursorPage;
 import com.travel.dto.ReviewDto;
 
 import java.util.List;
@@ -10,7 +11,7 @@ public interface ReviewService {
     
     ReviewDto getReviewById(Long id);
     
-    List<ReviewDto> getAllReviews();
+    CursorPage<ReviewDto> getAllReviews(String cursor, int size);
     
     List<ReviewDto> getUserReviews(Long userId);
     
@@ -0,0 +1,16 @@
+package com.travel.service;
+
+import com.travel.dto.TourAvailabilityDto;
+
+import java.time.LocalDate;
+
+public interface TourDepartureService {
+    
+    void reserveSeats(Long tourId, Integer capacity, LocalDate travelDate, int seats);
+    
+    void releaseSeats(Long tourId, LocalDate travelDate, int seats);
+    
+    void updateCapacity(Long tourId, Integer capacity);
+    
+    TourAvailabilityDto getAvailability(Long tourId, LocalDate travelDate);
+}
@@ -1,9 +1,15 @@
 package com.travel.service;
 
+import com.travel.dto.CursorPage;
+import com.travel.dto.NearbyTourDto;
 import com.travel.dto.TourDto;
+import com.travel.dto.TourFilterDto;
+import com.travel.dto.TourFilterResultDto;
+import com.travel.dto.TourSuggestionDto;
 import com.travel.entity.Tour;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 public interface TourService {
@@ -12,7 +18,9 @@ public interface TourService {
     
     TourDto getTourById(Long id);
     
-    List<TourDto> getAllTours();
+    List<TourDto> getToursByIds(List<Long> ids);
+    
+    CursorPage<TourDto> getAllTours(String cursor, int size);
     
     List<TourDto> getAllActiveTours();
     
@@ -26,11 +34,23 @@ public interface TourService {
     
     List<TourDto> getToursByDurationRange(Integer minDuration, Integer maxDuration);
     
-    List<TourDto> searchTours(String searchTerm);
+    List<TourDto> searchTours(String searchTerm, int page, int size);
+    
+    TourFilterResultDto filterTours(TourFilterDto filter);
+    
+    List<TourSuggestionDto> suggestTours(String prefix, int limit);
+    
+    List<TourDto> getTopRatedTours(Tour.Category category, Integer limit);
+    
+    List<TourDto> getLatestTours(Tour.Category category, Integer limit);
     
-    List<TourDto> getTopRatedTours();
+    List<NearbyTourDto> getNearbyTours(double latitude, double longitude, Double radiusKm, Tour.Category category, int limit);
     
-    List<TourDto> getLatestTours();
+    String getCatalogVersion();
+    
+    long getCatalogLastModified();
+    
+    void reloadCatalog();
     
     TourDto updateTour(Long id, TourDto tourDto);
     
@@ -41,4 +61,8 @@ public interface TourService {
     void activateTour(Long id);
     
     void updateTourRating(Long tourId);
+    
+    void updateTourRatings(Collection<Long> tourIds);
+    
+    void adjustTourRating(Long tourId, long ratingDelta, int reviewCountDelta);
 } 
\ No newline at end of file
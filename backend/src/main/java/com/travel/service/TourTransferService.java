@@ -0,0 +1,18 @@
+package com.travel.service;
+
+import com.travel.dto.TourImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface TourTransferService {
+    
+    TourImportResultDto importTours(InputStream input, Format format) throws IOException;
+    
+    void exportTours(OutputStream output, Format format) throws IOException;
+    
+    enum Format {
+        JSON, CSV
+    }
+}
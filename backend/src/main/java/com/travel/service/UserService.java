@@ -1,5 +1,6 @@
 package com.travel.service;
 
+import com.travel.dto.CursorPage;
 import com.travel.dto.ProfileUpdateDto;
 import com.travel.dto.UserDto;
 import com.travel.dto.UserRegistrationDto;
@@ -16,9 +17,9 @@ public interface UserService {
     
     UserDto getUserByEmail(String email);
     
-    List<UserDto> getAllUsers();
+    CursorPage<UserDto> getAllUsers(String cursor, int size);
     
-    List<UserDto> getAllActiveUsers();
+    CursorPage<UserDto> getAllActiveUsers(String cursor, int size);
     
     UserDto updateUser(Long id, UserDto userDto);
     
@@ -40,7 +41,11 @@ public interface UserService {
     
     User getCurrentUserEntity();
     
+    Long getCurrentUserId();
+    
     
 
     void updateLastLogin(Long userId);
+    
+    UserDto recordLogin(User user);
 } 
\ No newline at end of file
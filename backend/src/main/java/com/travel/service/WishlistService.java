@@ -1,5 +1,6 @@
 package com.travel.service;
 
+import com.travel.dto.CursorPage;
 import com.travel.dto.TourDto;
 
 import java.util.List;
@@ -10,11 +11,13 @@ public interface WishlistService {
     
     void removeFromWishlist(Long userId, Long tourId);
     
-    List<TourDto> getUserWishlist(Long userId);
+    CursorPage<TourDto> getUserWishlist(Long userId, String cursor, int size);
     
     boolean isInWishlist(Long userId, Long tourId);
     
+    boolean isInCurrentUserWishlist(Long tourId);
+    
     Long getWishlistCountByTourId(Long tourId);
     
-    List<TourDto> getCurrentUserWishlist();
+    CursorPage<TourDto> getCurrentUserWishlist(String cursor, int size);
 } 
\ No newline at end of file
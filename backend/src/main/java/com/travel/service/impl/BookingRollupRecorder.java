@@ -0,0 +1,69 @@
+package com.travel.service.impl;
+
+import com.travel.dao.DailyBookingRollupDao;
+import com.travel.dao.HourlyBookingRollupDao;
+import com.travel.entity.Booking;
+import com.travel.entity.BookingRollup;
+import com.travel.entity.Tour;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Adds a booking to, or takes it out of, the hourly and daily rollups. Callers run inside the
+ * transaction that changes the booking, so the rollups commit or roll back together with it.
+ * A booking is keyed on the tour category and destination stored on it when it was first recorded,
+ * so later edits to the tour do not move it between rollup rows. A booking without stored attribution
+ * predates the rollups and has not been counted yet (backfill stamps the ones it counts), so it is only
+ * ever added.
+ */
+@Component
+@RequiredArgsConstructor
+class BookingRollupRecorder {
+
+    private final HourlyBookingRollupDao hourlyRollupDao;
+    private final DailyBookingRollupDao dailyRollupDao;
+
+    public void add(Booking booking) {
+        record(booking, 1);
+    }
+
+    public void subtract(Booking booking) {
+        record(booking, -1);
+    }
+
+    public void attribute(Booking booking) {
+        Tour tour = booking.getTour();
+        booking.setTourCategory(tour.getCategory() != null ? tour.getCategory().name() : BookingRollup.UNCATEGORIZED);
+        booking.setTourDestination(tour.getDestination());
+    }
+
+    private void record(Booking booking, int sign) {
+        if (booking.getTourCategory() == null) {
+            if (sign < 0) {
+                // booked before rollups existed and never backfilled, so there is nothing to take out
+                return;
+            }
+            attribute(booking);
+        }
+        LocalDateTime createdAt = booking.getCreatedAt() != null
+                ? booking.getCreatedAt()
+                : booking.getBookingDate().atStartOfDay();
+        String paymentStatus = (booking.getPaymentStatus() != null
+                ? booking.getPaymentStatus() : Booking.PaymentStatus.PENDING).name();
+        String bookingStatus = (booking.getStatus() != null
+                ? booking.getStatus() : Booking.BookingStatus.PENDING).name();
+        BigDecimal amount = booking.getTotalAmount() != null ? booking.getTotalAmount() : BigDecimal.ZERO;
+        if (sign < 0) {
+            amount = amount.negate();
+        }
+
+        hourlyRollupDao.increment(createdAt.truncatedTo(ChronoUnit.HOURS), booking.getTourCategory(),
+                booking.getTourDestination(), paymentStatus, bookingStatus, sign, amount);
+        dailyRollupDao.increment(createdAt.truncatedTo(ChronoUnit.DAYS), booking.getTourCategory(),
+                booking.getTourDestination(), paymentStatus, bookingStatus, sign, amount);
+    }
+}
@@ -4,19 +4,21 @@ import com.travel.dao.BookingDao;
 import com.travel.dao.TourDao;
 import com.travel.dao.UserDao;
 import com.travel.dto.BookingDto;
+import com.travel.dto.CursorPage;
 import com.travel.entity.Booking;
 import com.travel.entity.Tour;
 import com.travel.entity.User;
 import com.travel.exception.ResourceNotFoundException;
 import com.travel.service.BookingService;
+import com.travel.service.TourDepartureService;
 import com.travel.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,8 +28,12 @@ public class BookingServiceImpl implements BookingService {
     private final UserDao userDao;
     private final TourDao tourDao;
     private final UserService userService;
+    private final TourDepartureService tourDepartureService;
+    private final DashboardMetrics dashboardMetrics;
+    private final BookingRollupRecorder rollupRecorder;
     
     @Override
+    @Transactional
     public BookingDto createBooking(BookingDto bookingDto) {
         User user = userDao.findById(bookingDto.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + bookingDto.getUserId()));
@@ -35,6 +41,9 @@ public class BookingServiceImpl implements BookingService {
         Tour tour = tourDao.findById(bookingDto.getTourId())
                 .orElseThrow(() -> new ResourceNotFoundException("Tour not found with id: " + bookingDto.getTourId()));
         
+        tourDepartureService.reserveSeats(tour.getId(), tour.getMaxGroupSize(),
+                bookingDto.getTravelDate(), guests(bookingDto.getGuests()));
+        
         Booking booking = new Booking();
         booking.setUser(user);
         booking.setTour(tour);
@@ -46,102 +55,149 @@ public class BookingServiceImpl implements BookingService {
         booking.setStatus(Booking.BookingStatus.PENDING);
         booking.setPaymentStatus(Booking.PaymentStatus.PENDING);
         booking.setPaymentMethod(bookingDto.getPaymentMethod());
+        rollupRecorder.attribute(booking);
         
         Booking savedBooking = bookingDao.save(booking);
+        rollupRecorder.add(savedBooking);
         return convertToDto(savedBooking);
     }
     
     @Override
     public BookingDto getBookingById(Long id) {
-        Booking booking = bookingDao.findById(id)
+        return bookingDao.findDtoById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + id));
-        return convertToDto(booking);
     }
     
     @Override
-    public List<BookingDto> getAllBookings() {
-        return bookingDao.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public CursorPage<BookingDto> getAllBookings(String cursor, int size) {
+        List<BookingDto> rows = bookingDao.findDtosAfter(
+                CursorPage.decodeCursor(cursor, 0L), CursorPage.fetchSize(size));
+        return CursorPage.of(rows, size, BookingDto::getId);
     }
     
     @Override
     public List<BookingDto> getUserBookings(Long userId) {
-        return bookingDao.findUserBookingsOrderByDate(userId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return bookingDao.findUserBookingDtos(userId);
     }
     
     @Override
     public List<BookingDto> getTourBookings(Long tourId) {
-        return bookingDao.findTourBookingsOrderByDate(tourId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return bookingDao.findTourBookingDtos(tourId);
     }
     
     @Override
-    public List<BookingDto> getBookingsByStatus(Booking.BookingStatus status) {
-        return bookingDao.findByStatus(status).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public CursorPage<BookingDto> getBookingsByStatus(Booking.BookingStatus status, String cursor, int size) {
+        List<BookingDto> rows = bookingDao.findDtosByStatusAfter(
+                status, CursorPage.decodeCursor(cursor, 0L), CursorPage.fetchSize(size));
+        return CursorPage.of(rows, size, BookingDto::getId);
     }
     
     @Override
     public List<BookingDto> getBookingsByPaymentStatus(Booking.PaymentStatus paymentStatus) {
-        return bookingDao.findByPaymentStatus(paymentStatus).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return bookingDao.findDtosByPaymentStatus(paymentStatus);
     }
     
     @Override
     public List<BookingDto> getBookingsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return bookingDao.findByTravelDateBetween(startDate, endDate).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return bookingDao.findDtosByTravelDateBetween(startDate, endDate);
     }
     
     @Override
+    @Transactional
     public BookingDto updateBookingStatus(Long id, Booking.BookingStatus status) {
         Booking booking = bookingDao.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + id));
         
-        booking.setStatus(status);
+        boolean held = holdsSeats(booking.getStatus());
+        if (!held && holdsSeats(status)) {
+            Tour tour = booking.getTour();
+            tourDepartureService.reserveSeats(tour.getId(), tour.getMaxGroupSize(),
+                    booking.getTravelDate(), guests(booking.getGuests()));
+        } else if (held && !holdsSeats(status)) {
+            releaseSeats(booking);
+        }
+        
+        if (booking.getStatus() != status) {
+            if (status == Booking.BookingStatus.CONFIRMED) {
+                dashboardMetrics.confirmedBookingsChanged(1);
+            } else if (booking.getStatus() == Booking.BookingStatus.CONFIRMED) {
+                dashboardMetrics.confirmedBookingsChanged(-1);
+            }
+            rollupRecorder.subtract(booking);
+            booking.setStatus(status);
+            rollupRecorder.add(booking);
+        }
+        
         Booking updatedBooking = bookingDao.save(booking);
         return convertToDto(updatedBooking);
     }
     
     @Override
+    @Transactional
     public BookingDto updatePaymentStatus(Long id, Booking.PaymentStatus paymentStatus) {
         Booking booking = bookingDao.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + id));
         
-        booking.setPaymentStatus(paymentStatus);
+        if (booking.getPaymentStatus() != paymentStatus) {
+            if (paymentStatus == Booking.PaymentStatus.PAID) {
+                dashboardMetrics.revenueChanged(booking.getTotalAmount(), 1);
+            } else if (booking.getPaymentStatus() == Booking.PaymentStatus.PAID) {
+                dashboardMetrics.revenueChanged(booking.getTotalAmount(), -1);
+            }
+            rollupRecorder.subtract(booking);
+            booking.setPaymentStatus(paymentStatus);
+            rollupRecorder.add(booking);
+        }
+        
         Booking updatedBooking = bookingDao.save(booking);
         return convertToDto(updatedBooking);
     }
     
     @Override
+    @Transactional
     public void deleteBooking(Long id) {
-        if (!bookingDao.existsById(id)) {
-            throw new ResourceNotFoundException("Booking not found with id: " + id);
+        Booking booking = bookingDao.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + id));
+        
+        if (holdsSeats(booking.getStatus())) {
+            releaseSeats(booking);
+        }
+        if (booking.getStatus() == Booking.BookingStatus.CONFIRMED) {
+            dashboardMetrics.confirmedBookingsChanged(-1);
+        }
+        if (booking.getPaymentStatus() == Booking.PaymentStatus.PAID) {
+            dashboardMetrics.revenueChanged(booking.getTotalAmount(), -1);
         }
-        bookingDao.deleteById(id);
+        rollupRecorder.subtract(booking);
+        bookingDao.delete(booking);
     }
     
     @Override
     public Long getConfirmedBookingsCount() {
-        return bookingDao.countConfirmedBookings();
+        return dashboardMetrics.confirmedBookings();
     }
     
     @Override
     public Double getTotalRevenue() {
-        return bookingDao.getTotalRevenue();
+        return dashboardMetrics.totalRevenue();
     }
     
     @Override
     public List<BookingDto> getCurrentUserBookings() {
-        User currentUser = userService.getCurrentUserEntity();
-        return getUserBookings(currentUser.getId());
+        return getUserBookings(userService.getCurrentUserId());
+    }
+    
+    private void releaseSeats(Booking booking) {
+        tourDepartureService.releaseSeats(booking.getTour().getId(),
+                booking.getTravelDate(), guests(booking.getGuests()));
+    }
+    
+    private static boolean holdsSeats(Booking.BookingStatus status) {
+        return status != Booking.BookingStatus.CANCELLED;
+    }
+    
+    private static int guests(Integer guests) {
+        return guests == null ? 0 : guests;
     }
     
     private BookingDto convertToDto(Booking booking) {
@@ -0,0 +1,129 @@
+package com.travel.service.impl;
+
+import com.travel.dao.BookingDao;
+import com.travel.dao.UserDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals behind the admin dashboard. The user and booking write paths report deltas, which are
+ * applied once their transaction commits; a scheduled pass re-reads the aggregates from the database and
+ * folds any difference back in. Revenue is kept in cents.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class DashboardMetrics {
+
+    private final UserDao userDao;
+    private final BookingDao bookingDao;
+
+    private final LongAdder totalUsers = new LongAdder();
+    private final LongAdder activeUsers = new LongAdder();
+    private final LongAdder confirmedBookings = new LongAdder();
+    private final LongAdder revenueCents = new LongAdder();
+    private volatile boolean stale = true;
+
+    public long totalUsers() {
+        ensureLoaded();
+        return totalUsers.sum();
+    }
+
+    public long activeUsers() {
+        ensureLoaded();
+        return activeUsers.sum();
+    }
+
+    public long confirmedBookings() {
+        ensureLoaded();
+        return confirmedBookings.sum();
+    }
+
+    public double totalRevenue() {
+        ensureLoaded();
+        return revenueCents.sum() / 100.0;
+    }
+
+    public void usersChanged(int totalDelta, int activeDelta) {
+        afterCommit(() -> {
+            totalUsers.add(totalDelta);
+            activeUsers.add(activeDelta);
+        });
+    }
+
+    public void confirmedBookingsChanged(int delta) {
+        afterCommit(() -> confirmedBookings.add(delta));
+    }
+
+    public void revenueChanged(BigDecimal amount, int sign) {
+        if (amount == null) {
+            return;
+        }
+        long cents = toCents(amount) * sign;
+        afterCommit(() -> revenueCents.add(cents));
+    }
+
+    /**
+     * Marks the totals as unknown, e.g. after a cascading delete; the next read recomputes them.
+     */
+    public void invalidate() {
+        afterCommit(() -> stale = true);
+    }
+
+    @Scheduled(initialDelayString = "${dashboard.metrics.reconciliation-interval}",
+            fixedDelayString = "${dashboard.metrics.reconciliation-interval}")
+    public synchronized void reconcile() {
+        stale = false;
+        long drift = Math.abs(fold(totalUsers, userDao.countAllUsers()))
+                + Math.abs(fold(activeUsers, userDao.countActiveUsers()))
+                + Math.abs(fold(confirmedBookings, bookingDao.countConfirmedBookings()))
+                + Math.abs(fold(revenueCents, toCents(bookingDao.getTotalRevenue())));
+        if (drift > 0) {
+            log.debug("Dashboard counters corrected by {}", drift);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (stale) {
+            reconcile();
+        }
+    }
+
+    // Applied as a delta so increments landing after counter.sum() are kept. An increment whose transaction
+    // commits after the query but that lands before counter.sum() is cancelled by the delta, because the query
+    // did not see it; the counter stays short by that amount until the next pass.
+    private static long fold(LongAdder counter, Long actual) {
+        long difference = (actual == null ? 0 : actual) - counter.sum();
+        counter.add(difference);
+        return difference;
+    }
+
+    private static long toCents(Double amount) {
+        return amount == null ? 0 : Math.round(amount * 100);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValue();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.travel.service.impl;
+
+import com.travel.dao.UserDao;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for {@code users.last_login}. Logins only record the time here; repeated logins of one
+ * user collapse to the latest, and a scheduled flush writes all users that share a login second with a single
+ * {@code UPDATE ... WHERE id IN (...)}. The column keeps whole seconds, so nothing is lost by the grouping.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class LastLoginWriter {
+
+    private static final int MAX_IDS_PER_STATEMENT = 500;
+
+    private final UserDao userDao;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void record(Long userId, LocalDateTime loginTime) {
+        pending.merge(userId, loginTime.truncatedTo(ChronoUnit.SECONDS),
+                (queued, latest) -> latest.isAfter(queued) ? latest : queued);
+    }
+
+    @PreDestroy
+    @Scheduled(initialDelayString = "${user.last-login.flush-interval}",
+            fixedDelayString = "${user.last-login.flush-interval}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<LocalDateTime, List<Long>> byLoginTime = new TreeMap<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginTime = pending.remove(userId);
+            if (loginTime != null) {
+                byLoginTime.computeIfAbsent(loginTime, time -> new ArrayList<>()).add(userId);
+            }
+        }
+
+        int updated = 0;
+        for (Map.Entry<LocalDateTime, List<Long>> group : byLoginTime.entrySet()) {
+            List<Long> userIds = group.getValue();
+            for (int from = 0; from < userIds.size(); from += MAX_IDS_PER_STATEMENT) {
+                List<Long> chunk = userIds.subList(from, Math.min(userIds.size(), from + MAX_IDS_PER_STATEMENT));
+                try {
+                    updated += userDao.updateLastLogin(chunk, group.getKey());
+                } catch (DataAccessException e) {
+                    log.warn("Could not write last login for {} users, retrying on the next flush", chunk.size(), e);
+                    chunk.forEach(userId -> record(userId, group.getKey()));
+                }
+            }
+        }
+        log.debug("Wrote last login for {} users in {} groups", updated, byLoginTime.size());
+    }
+}
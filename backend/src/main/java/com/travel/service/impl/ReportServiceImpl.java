@@ -0,0 +1,122 @@
+package com.travel.service.impl;
+
+import com.travel.dao.BookingDao;
+import com.travel.dao.DailyBookingRollupDao;
+import com.travel.dao.HourlyBookingRollupDao;
+import com.travel.dto.ReportRowDto;
+import com.travel.entity.Booking;
+import com.travel.entity.BookingRollup;
+import com.travel.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+    
+    private static final long MAX_HOURLY_RANGE_DAYS = 31;
+    private static final String ALL_GROUP = "ALL";
+    
+    private final HourlyBookingRollupDao hourlyRollupDao;
+    private final DailyBookingRollupDao dailyRollupDao;
+    private final BookingDao bookingDao;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReportRowDto> getRevenueReport(LocalDate from, LocalDate to,
+                                               ReportRowDto.Granularity granularity, ReportRowDto.Dimension groupBy) {
+        return report(from, to, granularity, groupBy,
+                rollup -> rollup.getPaymentStatus() == Booking.PaymentStatus.PAID);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReportRowDto> getBookingReport(LocalDate from, LocalDate to,
+                                               ReportRowDto.Granularity granularity, ReportRowDto.Dimension groupBy) {
+        return report(from, to, granularity, groupBy,
+                rollup -> rollup.getBookingStatus() != Booking.BookingStatus.CANCELLED);
+    }
+    
+    @Override
+    @Transactional
+    public int backfill(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        
+        // once counted, a booking must stay on the row it was counted under
+        bookingDao.attributeUnattributed(start, end);
+        hourlyRollupDao.deleteInRange(start, end);
+        dailyRollupDao.deleteInRange(start, end);
+        return hourlyRollupDao.backfill(start, end) + dailyRollupDao.backfill(start, end);
+    }
+    
+    private List<ReportRowDto> report(LocalDate from, LocalDate to, ReportRowDto.Granularity granularity,
+                                      ReportRowDto.Dimension groupBy, Predicate<BookingRollup> filter) {
+        checkRange(from, to);
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        
+        List<? extends BookingRollup> rollups;
+        if (granularity == ReportRowDto.Granularity.HOUR) {
+            if (ChronoUnit.DAYS.between(from, to) >= MAX_HOURLY_RANGE_DAYS) {
+                throw new IllegalArgumentException("Hourly reports are limited to " + MAX_HOURLY_RANGE_DAYS + " days");
+            }
+            rollups = hourlyRollupDao.findInRange(start, end);
+        } else {
+            rollups = dailyRollupDao.findInRange(start, end);
+        }
+        
+        Map<LocalDateTime, Map<String, ReportRowDto>> periods = new TreeMap<>();
+        for (BookingRollup rollup : rollups) {
+            if (!filter.test(rollup)) {
+                continue;
+            }
+            LocalDateTime period = periodStart(rollup.getBucketStart(), granularity);
+            ReportRowDto row = periods.computeIfAbsent(period, key -> new TreeMap<>())
+                    .computeIfAbsent(group(rollup, groupBy), key -> new ReportRowDto(period, key, 0L, BigDecimal.ZERO));
+            row.setBookings(row.getBookings() + rollup.getBookingCount());
+            row.setAmount(row.getAmount().add(rollup.getAmount()));
+        }
+        
+        List<ReportRowDto> rows = new ArrayList<>();
+        periods.values().forEach(groups -> rows.addAll(groups.values()));
+        return rows;
+    }
+    
+    private static LocalDateTime periodStart(LocalDateTime bucketStart, ReportRowDto.Granularity granularity) {
+        return switch (granularity) {
+            case HOUR, DAY -> bucketStart;
+            case WEEK -> bucketStart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> bucketStart.withDayOfMonth(1);
+        };
+    }
+    
+    private static String group(BookingRollup rollup, ReportRowDto.Dimension groupBy) {
+        return switch (groupBy) {
+            case NONE -> ALL_GROUP;
+            case CATEGORY -> rollup.getCategory();
+            case DESTINATION -> rollup.getDestination();
+            case PAYMENT_STATUS -> rollup.getPaymentStatus().name();
+        };
+    }
+    
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.travel.service.impl;
 
+import com.travel.config.CacheConfig;
 import com.travel.dao.ReviewDao;
 import com.travel.dao.TourDao;
 import com.travel.dao.UserDao;
+import com.travel.dto.CursorPage;
 import com.travel.dto.ReviewDto;
 import com.travel.entity.Review;
 import com.travel.entity.Tour;
@@ -12,7 +14,9 @@ import com.travel.service.ReviewService;
 import com.travel.service.TourService;
 import com.travel.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -28,6 +32,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final TourService tourService;
     
     @Override
+    @Transactional
     public ReviewDto createReview(ReviewDto reviewDto) {
         User user = userDao.findById(reviewDto.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + reviewDto.getUserId()));
@@ -44,7 +49,7 @@ public class ReviewServiceImpl implements ReviewService {
         Review savedReview = reviewDao.save(review);
         
         // Update tour rating
-        tourService.updateTourRating(tour.getId());
+        tourService.adjustTourRating(tour.getId(), savedReview.getRating(), 1);
         
         return convertToDto(savedReview);
     }
@@ -57,10 +62,10 @@ public class ReviewServiceImpl implements ReviewService {
     }
     
     @Override
-    public List<ReviewDto> getAllReviews() {
-        return reviewDao.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public CursorPage<ReviewDto> getAllReviews(String cursor, int size) {
+        List<Review> rows = reviewDao.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(cursor, 0L), CursorPage.fetchSize(size));
+        return CursorPage.of(rows, size, Review::getId, this::convertToDto);
     }
     
     @Override
@@ -71,10 +76,11 @@ public class ReviewServiceImpl implements ReviewService {
     }
     
     @Override
+    @Cacheable(cacheNames = CacheConfig.TOUR_REVIEWS, key = "#tourId")
     public List<ReviewDto> getTourReviews(Long tourId) {
         return reviewDao.findTourReviewsOrderByDate(tourId).stream()
                 .map(this::convertToDto)
-                .collect(Collectors.toList());
+                .toList();
     }
     
     @Override
@@ -85,22 +91,26 @@ public class ReviewServiceImpl implements ReviewService {
     }
     
     @Override
+    @Transactional
     public ReviewDto updateReview(Long id, ReviewDto reviewDto) {
         Review review = reviewDao.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + id));
         
+        int previousRating = review.getRating();
         review.setRating(reviewDto.getRating());
         review.setComment(reviewDto.getComment());
         
         Review updatedReview = reviewDao.save(review);
+        ReviewDto updatedDto = convertToDto(updatedReview);
         
         // Update tour rating
-        tourService.updateTourRating(review.getTour().getId());
+        tourService.adjustTourRating(updatedDto.getTourId(), updatedReview.getRating() - previousRating, 0);
         
-        return convertToDto(updatedReview);
+        return updatedDto;
     }
     
     @Override
+    @Transactional
     public void deleteReview(Long id) {
         Review review = reviewDao.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + id));
@@ -109,23 +119,24 @@ public class ReviewServiceImpl implements ReviewService {
         reviewDao.deleteById(id);
         
         // Update tour rating
-        tourService.updateTourRating(tourId);
+        tourService.adjustTourRating(tourId, -review.getRating(), -1);
     }
     
     @Override
+    @Cacheable(cacheNames = CacheConfig.TOUR_AVERAGE_RATING, key = "#tourId")
     public Double getAverageRatingByTourId(Long tourId) {
         return reviewDao.getAverageRatingByTourId(tourId);
     }
     
     @Override
+    @Cacheable(cacheNames = CacheConfig.TOUR_REVIEW_COUNT, key = "#tourId")
     public Long getReviewCountByTourId(Long tourId) {
         return reviewDao.countReviewsByTourId(tourId);
     }
     
     @Override
     public List<ReviewDto> getCurrentUserReviews() {
-        User currentUser = userService.getCurrentUserEntity();
-        return getUserReviews(currentUser.getId());
+        return getUserReviews(userService.getCurrentUserId());
     }
     
     private ReviewDto convertToDto(Review review) {
@@ -0,0 +1,45 @@
+package com.travel.service.impl;
+
+import com.travel.catalog.TourCatalog;
+import com.travel.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the cached review reads of a tour. Every review write goes through a tour rating update, which calls
+ * {@link #evictTour(Long)}; the cache manager defers the eviction until the surrounding transaction commits.
+ * Those writes also republish the tour, which moves the catalog version; {@link #evictAll()} has no such
+ * companion, so it advances the version itself.
+ */
+@Component
+@RequiredArgsConstructor
+class TourCacheEvictor {
+
+    private static final String[] TOUR_CACHES = {
+            CacheConfig.TOUR_REVIEWS, CacheConfig.TOUR_AVERAGE_RATING, CacheConfig.TOUR_REVIEW_COUNT
+    };
+
+    private final CacheManager cacheManager;
+    private final TourCatalog tourCatalog;
+
+    public void evictTour(Long tourId) {
+        for (String name : TOUR_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.evict(tourId);
+            }
+        }
+    }
+
+    public void evictAll() {
+        for (String name : TOUR_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        tourCatalog.touch();
+    }
+}
@@ -0,0 +1,134 @@
+package com.travel.service.impl;
+
+import com.travel.dao.BookingDao;
+import com.travel.dao.TourDao;
+import com.travel.dao.TourDepartureDao;
+import com.travel.dto.TourAvailabilityDto;
+import com.travel.entity.Tour;
+import com.travel.entity.TourDeparture;
+import com.travel.exception.InsufficientCapacityException;
+import com.travel.exception.ResourceNotFoundException;
+import com.travel.service.TourDepartureService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seat inventory per (tour, travel date). The {@code tour_departures} row is the source of truth and is
+ * only ever changed through conditional single-row updates, so concurrent bookings cannot oversell.
+ * Departures that recently turned away a request are remembered for a short while so that repeated
+ * attempts on a sold-out date are rejected without touching the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class TourDepartureServiceImpl implements TourDepartureService {
+    
+    private static final long SOLD_OUT_HINT_TTL_MILLIS = 2000;
+    private static final int MAX_SOLD_OUT_HINTS = 10_000;
+    
+    private final TourDepartureDao tourDepartureDao;
+    private final TourDao tourDao;
+    private final BookingDao bookingDao;
+    private final Map<String, SoldOutHint> soldOutHints = new ConcurrentHashMap<>();
+    
+    @Override
+    @Transactional
+    public void reserveSeats(Long tourId, Integer capacity, LocalDate travelDate, int seats) {
+        if (seats <= 0) {
+            throw new IllegalArgumentException("Guests must be at least 1");
+        }
+        if (capacity == null) {
+            return;
+        }
+        
+        String key = key(tourId, travelDate);
+        long now = System.currentTimeMillis();
+        SoldOutHint hint = soldOutHints.get(key);
+        if (hint != null) {
+            if (hint.expiresAt <= now) {
+                soldOutHints.remove(key, hint);
+            } else if (seats > hint.availableSeats) {
+                throw insufficientCapacity(hint.availableSeats, seats);
+            }
+        }
+        
+        if (tourDepartureDao.reserveSeats(tourId, travelDate, seats) > 0) {
+            return;
+        }
+        tourDepartureDao.createIfAbsent(tourId, travelDate, capacity);
+        if (tourDepartureDao.reserveSeats(tourId, travelDate, seats) > 0) {
+            return;
+        }
+        
+        int available = tourDepartureDao.findByTourIdAndTravelDate(tourId, travelDate)
+                .map(departure -> Math.max(0, departure.getCapacity() - departure.getBookedSeats()))
+                .orElse(0);
+        if (soldOutHints.size() >= MAX_SOLD_OUT_HINTS) {
+            soldOutHints.clear();
+        }
+        soldOutHints.put(key, new SoldOutHint(available, now + SOLD_OUT_HINT_TTL_MILLIS));
+        throw insufficientCapacity(available, seats);
+    }
+    
+    @Override
+    @Transactional
+    public void releaseSeats(Long tourId, LocalDate travelDate, int seats) {
+        if (seats > 0) {
+            tourDepartureDao.releaseSeats(tourId, travelDate, seats);
+        }
+        soldOutHints.remove(key(tourId, travelDate));
+    }
+    
+    @Override
+    @Transactional
+    public void updateCapacity(Long tourId, Integer capacity) {
+        if (capacity != null) {
+            tourDepartureDao.updateCapacity(tourId, capacity, LocalDate.now());
+        }
+        String prefix = tourId + ":";
+        soldOutHints.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public TourAvailabilityDto getAvailability(Long tourId, LocalDate travelDate) {
+        Tour tour = tourDao.findById(tourId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tour not found with id: " + tourId));
+        
+        TourDeparture departure = tourDepartureDao.findByTourIdAndTravelDate(tourId, travelDate).orElse(null);
+        Integer capacity = tour.getMaxGroupSize();
+        int bookedSeats;
+        if (departure != null) {
+            capacity = capacity == null ? null : departure.getCapacity();
+            bookedSeats = departure.getBookedSeats();
+        } else {
+            bookedSeats = bookingDao.sumBookedGuests(tourId, travelDate).intValue();
+        }
+        
+        Integer availableSeats = capacity == null ? null : Math.max(0, capacity - bookedSeats);
+        return new TourAvailabilityDto(tourId, travelDate, capacity, bookedSeats, availableSeats);
+    }
+    
+    private static String key(Long tourId, LocalDate travelDate) {
+        return tourId + ":" + travelDate;
+    }
+    
+    private static InsufficientCapacityException insufficientCapacity(int available, int requested) {
+        return new InsufficientCapacityException(
+                "Only " + available + " seats left for this departure, " + requested + " requested");
+    }
+    
+    private static final class SoldOutHint {
+        private final int availableSeats;
+        private final long expiresAt;
+        
+        private SoldOutHint(int availableSeats, long expiresAt) {
+            this.availableSeats = availableSeats;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
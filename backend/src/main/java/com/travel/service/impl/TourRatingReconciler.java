@@ -0,0 +1,65 @@
+package com.travel.service.impl;
+
+import com.travel.dao.ReviewDao;
+import com.travel.dao.TourDao;
+import com.travel.service.TourService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically compares each tour's running rating totals with the reviews table and
+ * recomputes any tour whose totals have drifted. The first pass runs during startup, before the
+ * web server accepts requests, so review writes never add to totals that were never backfilled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class TourRatingReconciler implements SmartInitializingSingleton {
+
+    private final TourDao tourDao;
+    private final ReviewDao reviewDao;
+    private final TourService tourService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${tour.rating.reconciliation-interval}",
+            fixedDelayString = "${tour.rating.reconciliation-interval}")
+    public void reconcile() {
+        Map<Long, long[]> expectedTotals = new HashMap<>();
+        for (Object[] row : reviewDao.sumRatingsByTour()) {
+            expectedTotals.put((Long) row[0], new long[] {toLong(row[1]), toLong(row[2])});
+        }
+
+        List<Long> drifted = new ArrayList<>();
+        for (Object[] row : tourDao.findRatingTotals()) {
+            Long tourId = (Long) row[0];
+            long[] expected = expectedTotals.getOrDefault(tourId, new long[2]);
+            long ratingSum = toLong(row[1]);
+            long reviewCount = toLong(row[2]);
+            if (ratingSum != expected[0] || reviewCount != expected[1]) {
+                log.debug("Rating totals drifted for tour {}: stored sum={} count={}, reviews sum={} count={}",
+                        tourId, ratingSum, reviewCount, expected[0], expected[1]);
+                drifted.add(tourId);
+            }
+        }
+        if (!drifted.isEmpty()) {
+            tourService.updateTourRatings(drifted);
+            log.warn("Recomputed drifted rating totals for {} tours", drifted.size());
+        }
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+}
@@ -1,111 +1,228 @@
 package com.travel.service.impl;
 
-import com.travel.dao.ReviewDao;
+import com.travel.catalog.TourCatalog;
+import com.travel.catalog.TourCatalogSnapshot;
+import com.travel.catalog.TourChangedEvent;
+import com.travel.catalog.TourDestinationIndex;
+import com.travel.catalog.TourFacetIndex;
+import com.travel.catalog.TourGeoIndex;
+import com.travel.catalog.TourRankingIndex;
+import com.travel.catalog.TourSearchIndex;
+import com.travel.catalog.TourSuggestIndex;
 import com.travel.dao.TourDao;
+import com.travel.dto.CursorPage;
+import com.travel.dto.NearbyTourDto;
 import com.travel.dto.TourDto;
+import com.travel.dto.TourFilterDto;
+import com.travel.dto.TourFilterResultDto;
+import com.travel.dto.TourSuggestionDto;
 import com.travel.entity.Tour;
 import com.travel.exception.ResourceNotFoundException;
+import com.travel.service.TourDepartureService;
 import com.travel.service.TourService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TourServiceImpl implements TourService {
     
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_NEARBY_TOURS = 100;
+    private static final int RATING_BATCH_SIZE = 500;
+    
     private final TourDao tourDao;
-    private final ReviewDao reviewDao;
+    private final TourCatalog tourCatalog;
+    private final TourSearchIndex tourSearchIndex;
+    private final TourFacetIndex tourFacetIndex;
+    private final TourSuggestIndex tourSuggestIndex;
+    private final TourDestinationIndex tourDestinationIndex;
+    private final TourRankingIndex tourRankingIndex;
+    private final TourGeoIndex tourGeoIndex;
+    private final TourDepartureService tourDepartureService;
+    private final DashboardMetrics dashboardMetrics;
+    private final TourCacheEvictor tourCacheEvictor;
+    private final WishlistMembershipCache wishlistMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public TourDto createTour(TourDto tourDto) {
+        checkCoordinates(tourDto);
         Tour tour = convertToEntity(tourDto);
         Tour savedTour = tourDao.save(tour);
+        eventPublisher.publishEvent(new TourChangedEvent(savedTour.getId()));
         return convertToDto(savedTour);
     }
     
     @Override
     public TourDto getTourById(Long id) {
-        Tour tour = tourDao.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Tour not found with id: " + id));
-        return convertToDto(tour);
+        TourDto tour = catalog().findById(id);
+        if (tour == null) {
+            throw new ResourceNotFoundException("Tour not found with id: " + id);
+        }
+        return tour;
     }
     
     @Override
-    public List<TourDto> getAllTours() {
-        return tourDao.findAll().stream()
-                .map(this::convertToDto)
+    public List<TourDto> getToursByIds(List<Long> ids) {
+        TourCatalogSnapshot snapshot = catalog();
+        return ids.stream()
+                .map(snapshot::findById)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public CursorPage<TourDto> getAllTours(String cursor, int size) {
+        List<TourDto> rows = catalog().getAllAfter(CursorPage.decodeCursor(cursor, 0L), CursorPage.checkSize(size) + 1);
+        return CursorPage.of(rows, size, TourDto::getId);
+    }
+    
     @Override
     public List<TourDto> getAllActiveTours() {
-        return tourDao.findByIsActive(true).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return catalog().getActive();
     }
     
     @Override
     public List<TourDto> getToursByCategory(Tour.Category category) {
-        return tourDao.findByCategory(category).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return catalog().getByCategory(category);
     }
     
     @Override
     public List<TourDto> getToursByDestination(String destination) {
-        return tourDao.findByDestination(destination).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        TourCatalogSnapshot snapshot = catalog();
+        List<TourDto> tours = snapshot.getByDestination(destination);
+        return tours.isEmpty() ? byResolvedDestination(snapshot, destination) : tours;
     }
     
     @Override
     public List<TourDto> getToursByDifficulty(Tour.Difficulty difficulty) {
-        return tourDao.findByDifficulty(difficulty).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return catalog().getByDifficulty(difficulty);
     }
     
     @Override
     public List<TourDto> getToursByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
-        return tourDao.findByPriceBetween(minPrice, maxPrice).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return catalog().getByPriceRange(minPrice, maxPrice);
     }
     
     @Override
     public List<TourDto> getToursByDurationRange(Integer minDuration, Integer maxDuration) {
-        return tourDao.findByDurationBetween(minDuration, maxDuration).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return catalog().getByDurationRange(minDuration, maxDuration);
     }
     
     @Override
-    public List<TourDto> searchTours(String searchTerm) {
-        return tourDao.searchTours(searchTerm).stream()
-                .map(this::convertToDto)
+    public List<TourDto> searchTours(String searchTerm, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must be >= 0 and size between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        TourCatalogSnapshot snapshot = catalog();
+        List<TourDto> tours = tourSearchIndex.search(searchTerm, offset(page, size), size).stream()
+                .map(snapshot::findById)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        if (tours.isEmpty() && page == 0) {
+            // nothing matched as typed; the query may be a misspelt destination
+            return byResolvedDestination(snapshot, searchTerm).stream()
+                    .filter(tour -> Boolean.TRUE.equals(tour.getIsActive()))
+                    .limit(size)
+                    .collect(Collectors.toList());
+        }
+        return tours;
     }
     
     @Override
-    public List<TourDto> getTopRatedTours() {
-        return tourDao.findTopRatedTours().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public TourFilterResultDto filterTours(TourFilterDto filter) {
+        int size = CursorPage.checkSize(filter.getSize());
+        if (filter.getPage() < 0) {
+            throw new IllegalArgumentException("Page must be >= 0");
+        }
+        TourCatalogSnapshot snapshot = catalog();
+        TourFacetIndex.Result result = tourFacetIndex.filter(filter, offset(filter.getPage(), size), size);
+        List<TourDto> tours = result.getIds().stream()
+                .map(snapshot::findById)
+                .filter(Objects::nonNull)
+                .toList();
+        return new TourFilterResultDto(tours, result.getTotal(), result.getFacets());
     }
     
     @Override
-    public List<TourDto> getLatestTours() {
-        return tourDao.findLatestTours().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public List<TourSuggestionDto> suggestTours(String prefix, int limit) {
+        if (limit < 1 || limit > TourSuggestIndex.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + TourSuggestIndex.MAX_SUGGESTIONS);
+        }
+        catalog();
+        return tourSuggestIndex.suggest(prefix, limit);
+    }
+    
+    @Override
+    public List<TourDto> getTopRatedTours(Tour.Category category, Integer limit) {
+        return ranked(TourRankingIndex.Ranking.TOP_RATED, category, limit);
+    }
+    
+    @Override
+    public List<TourDto> getLatestTours(Tour.Category category, Integer limit) {
+        return ranked(TourRankingIndex.Ranking.LATEST, category, limit);
+    }
+    
+    private List<TourDto> ranked(TourRankingIndex.Ranking ranking, Tour.Category category, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be >= 1");
+        }
+        TourCatalogSnapshot snapshot = catalog();
+        return tourRankingIndex.top(ranking, category, limit != null ? limit : Integer.MAX_VALUE).stream()
+                .map(snapshot::findById)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+    
+    @Override
+    public List<NearbyTourDto> getNearbyTours(double latitude, double longitude, Double radiusKm,
+                                              Tour.Category category, int limit) {
+        if (!TourGeoIndex.isValid(latitude, longitude)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+        if (radiusKm != null && radiusKm <= 0) {
+            throw new IllegalArgumentException("Radius must be greater than 0");
+        }
+        if (limit < 1 || limit > MAX_NEARBY_TOURS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_NEARBY_TOURS);
+        }
+        TourCatalogSnapshot snapshot = catalog();
+        return tourGeoIndex.nearest(latitude, longitude, radiusKm, category, limit).stream()
+                .map(hit -> {
+                    TourDto tour = snapshot.findById(hit.getId());
+                    return tour != null ? new NearbyTourDto(tour, hit.getDistanceKm()) : null;
+                })
+                .filter(Objects::nonNull)
+                .toList();
     }
     
     @Override
+    public String getCatalogVersion() {
+        return tourCatalog.version();
+    }
+    
+    @Override
+    public long getCatalogLastModified() {
+        return tourCatalog.lastModified();
+    }
+    
+    @Override
+    @Transactional
     public TourDto updateTour(Long id, TourDto tourDto) {
+        checkCoordinates(tourDto);
         Tour tour = tourDao.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tour not found with id: " + id));
         
@@ -114,14 +231,20 @@ public class TourServiceImpl implements TourService {
         tour.setPrice(tourDto.getPrice());
         tour.setDuration(tourDto.getDuration());
         tour.setDestination(tourDto.getDestination());
+        tour.setLatitude(tourDto.getLatitude());
+        tour.setLongitude(tourDto.getLongitude());
         tour.setCategory(tourDto.getCategory());
         tour.setImageUrl(tourDto.getImageUrl());
         tour.setIncludes(tourDto.getIncludes());
+        if (!Objects.equals(tour.getMaxGroupSize(), tourDto.getMaxGroupSize())) {
+            tourDepartureService.updateCapacity(id, tourDto.getMaxGroupSize());
+        }
         tour.setMaxGroupSize(tourDto.getMaxGroupSize());
         tour.setDifficulty(tourDto.getDifficulty());
         tour.setIsActive(tourDto.getIsActive());
         
         Tour updatedTour = tourDao.save(tour);
+        eventPublisher.publishEvent(new TourChangedEvent(id));
         return convertToDto(updatedTour);
     }
     
@@ -131,6 +254,9 @@ public class TourServiceImpl implements TourService {
             throw new ResourceNotFoundException("Tour not found with id: " + id);
         }
         tourDao.deleteById(id);
+        dashboardMetrics.invalidate();
+        tourCacheEvictor.evictTour(id);
+        eventPublisher.publishEvent(new TourChangedEvent(id));
     }
     
     @Override
@@ -139,6 +265,7 @@ public class TourServiceImpl implements TourService {
                 .orElseThrow(() -> new ResourceNotFoundException("Tour not found with id: " + id));
         tour.setIsActive(false);
         tourDao.save(tour);
+        eventPublisher.publishEvent(new TourChangedEvent(id));
     }
     
     @Override
@@ -147,20 +274,110 @@ public class TourServiceImpl implements TourService {
                 .orElseThrow(() -> new ResourceNotFoundException("Tour not found with id: " + id));
         tour.setIsActive(true);
         tourDao.save(tour);
+        eventPublisher.publishEvent(new TourChangedEvent(id));
     }
     
     @Override
+    @Transactional
     public void updateTourRating(Long tourId) {
-        Tour tour = tourDao.findById(tourId)
-                .orElseThrow(() -> new ResourceNotFoundException("Tour not found with id: " + tourId));
-        
-        Double averageRating = reviewDao.getAverageRatingByTourId(tourId);
-        Long reviewCount = reviewDao.countReviewsByTourId(tourId);
-        
-        tour.setRating(averageRating != null ? averageRating : 0.0);
-        tour.setReviewCount(reviewCount.intValue());
-        
-        tourDao.save(tour);
+        if (tourDao.recomputeRatingTotals(tourId) == 0) {
+            throw new ResourceNotFoundException("Tour not found with id: " + tourId);
+        }
+        tourDao.refreshRating(tourId);
+        tourCacheEvictor.evictTour(tourId);
+        eventPublisher.publishEvent(new TourChangedEvent(tourId));
+    }
+    
+    @Override
+    @Transactional
+    public void updateTourRatings(Collection<Long> tourIds) {
+        if (tourIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(tourIds);
+        for (int from = 0; from < ids.size(); from += RATING_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + RATING_BATCH_SIZE));
+            tourDao.recomputeRatingTotals(batch);
+            tourDao.refreshRatings(batch);
+        }
+        // evictions and catalog updates both wait for the commit, so a rollback publishes nothing
+        for (Long tourId : ids) {
+            tourCacheEvictor.evictTour(tourId);
+            eventPublisher.publishEvent(new TourChangedEvent(tourId));
+        }
+    }
+    
+    @Override
+    @Transactional
+    public void adjustTourRating(Long tourId, long ratingDelta, int reviewCountDelta) {
+        if (tourDao.adjustRatingTotals(tourId, ratingDelta, reviewCountDelta) == 0) {
+            throw new ResourceNotFoundException("Tour not found with id: " + tourId);
+        }
+        tourDao.refreshRating(tourId);
+        tourCacheEvictor.evictTour(tourId);
+        eventPublisher.publishEvent(new TourChangedEvent(tourId));
+    }
+    
+    @Override
+    public void reloadCatalog() {
+        tourCatalog.replaceAll(this::loadCatalog);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCatalog() {
+        catalog();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTourChanged(TourChangedEvent event) {
+        TourDto tour = tourDao.findByIdWithIncludes(event.getTourId())
+                .map(this::convertToDto)
+                .orElse(null);
+        if (tour != null) {
+            tourCatalog.upsert(tour);
+        } else {
+            tourCatalog.remove(event.getTourId());
+        }
+        if (tour == null || !Boolean.TRUE.equals(tour.getIsActive())) {
+            wishlistMembershipCache.evictTour(event.getTourId());
+        }
+    }
+    
+    private static int offset(int page, int size) {
+        try {
+            return Math.multiplyExact(page, size);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Page " + page + " is out of range");
+        }
+    }
+    
+    private static void checkCoordinates(TourDto tourDto) {
+        if ((tourDto.getLatitude() != null || tourDto.getLongitude() != null)
+                && !TourGeoIndex.isValid(tourDto.getLatitude(), tourDto.getLongitude())) {
+            throw new IllegalArgumentException("Latitude and longitude must be given together, "
+                    + "latitude between -90 and 90 and longitude between -180 and 180");
+        }
+    }
+    
+    private List<TourDto> byResolvedDestination(TourCatalogSnapshot snapshot, String destination) {
+        List<String> spellings = tourDestinationIndex.resolve(destination);
+        if (spellings.size() == 1) {
+            return snapshot.getByDestination(spellings.get(0));
+        }
+        return spellings.stream()
+                .flatMap(spelling -> snapshot.getByDestination(spelling).stream())
+                .sorted(Comparator.comparing(TourDto::getId))
+                .toList();
+    }
+    
+    private TourCatalogSnapshot catalog() {
+        return tourCatalog.snapshot(this::loadCatalog);
+    }
+    
+    private List<TourDto> loadCatalog() {
+        return tourDao.findAllWithIncludes().stream()
+                .map(this::convertToDto)
+                .toList();
     }
     
     private TourDto convertToDto(Tour tour) {
@@ -171,15 +388,18 @@ public class TourServiceImpl implements TourService {
         dto.setPrice(tour.getPrice());
         dto.setDuration(tour.getDuration());
         dto.setDestination(tour.getDestination());
+        dto.setLatitude(tour.getLatitude());
+        dto.setLongitude(tour.getLongitude());
         dto.setCategory(tour.getCategory());
         dto.setImageUrl(tour.getImageUrl());
-        dto.setIncludes(tour.getIncludes());
+        dto.setIncludes(tour.getIncludes() != null ? List.copyOf(tour.getIncludes()) : null);
         dto.setMaxGroupSize(tour.getMaxGroupSize());
         dto.setDifficulty(tour.getDifficulty());
         dto.setRating(tour.getRating());
         dto.setReviewCount(tour.getReviewCount());
         dto.setIsActive(tour.getIsActive());
         dto.setCreatedAt(tour.getCreatedAt());
+        dto.setVersion(tour.getVersion());
         return dto;
     }
     
@@ -190,6 +410,8 @@ public class TourServiceImpl implements TourService {
         tour.setPrice(dto.getPrice());
         tour.setDuration(dto.getDuration());
         tour.setDestination(dto.getDestination());
+        tour.setLatitude(dto.getLatitude());
+        tour.setLongitude(dto.getLongitude());
         tour.setCategory(dto.getCategory());
         tour.setImageUrl(dto.getImageUrl());
         tour.setIncludes(dto.getIncludes());
@@ -0,0 +1,378 @@
+package com.travel.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.catalog.TourGeoIndex;
+import com.travel.catalog.TourJsonCache;
+import com.travel.dto.CursorPage;
+import com.travel.dto.TourDto;
+import com.travel.dto.TourImportResultDto;
+import com.travel.entity.Tour;
+import com.travel.service.TourService;
+import com.travel.service.TourTransferService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bulk tour import and export. Imports are parsed one row at a time and written in batches of
+ * {@value #BATCH_SIZE} with plain JDBC batch inserts, each batch in its own transaction, so neither the
+ * input nor the persistence context grows with the file. Exports page through the catalog snapshot and
+ * write each tour as it goes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourTransferServiceImpl implements TourTransferService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int EXPORT_PAGE_SIZE = CursorPage.MAX_SIZE;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final String INCLUDES_SEPARATOR = "|";
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "id", "title", "description", "price", "duration", "destination", "latitude", "longitude", "category",
+            "imageUrl", "includes", "maxGroupSize", "difficulty", "isActive", "rating", "reviewCount", "createdAt");
+
+    private static final String INSERT_TOUR = "INSERT INTO tours (title, description, price, duration, destination, "
+            + "latitude, longitude, category, image_url, max_group_size, difficulty, rating, review_count, rating_sum, "
+            + "version, is_active, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, ?, ?)";
+    private static final String INSERT_INCLUSION = "INSERT INTO tour_includes (tour_id, inclusion) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final TourService tourService;
+    private final TourJsonCache tourJson;
+
+    @Override
+    public TourImportResultDto importTours(InputStream input, Format format) throws IOException {
+        ImportRun run = new ImportRun();
+        try {
+            if (format == Format.CSV) {
+                readCsv(input, run);
+            } else {
+                readJson(input, run);
+            }
+            run.flush();
+        } finally {
+            if (run.imported > 0) {
+                tourService.reloadCatalog();
+            }
+        }
+        log.info("Imported {} tours, rejected {}", run.imported, run.rejected);
+        return new TourImportResultDto(run.imported, run.rejected, run.errors);
+    }
+
+    @Override
+    public void exportTours(OutputStream output, Format format) throws IOException {
+        if (format == Format.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            Csv.writeRecord(writer, CSV_COLUMNS);
+            forEachTour(tour -> Csv.writeRecord(writer, toCsv(tour)));
+            writer.flush();
+        } else {
+            output.write('[');
+            boolean[] first = {true};
+            forEachTour(tour -> {
+                if (!first[0]) {
+                    output.write(',');
+                }
+                output.write(tourJson.tour(tour));
+                first[0] = false;
+            });
+            output.write(']');
+            output.flush();
+        }
+    }
+
+    private void readJson(InputStream input, ImportRun run) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of tours");
+            }
+            int row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("Unterminated JSON array of tours");
+                }
+                row++;
+                if (token != JsonToken.START_OBJECT) {
+                    run.reject(row, "Expected a JSON object but found " + parser.getText());
+                    parser.skipChildren();
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(parser);
+                TourDto tour;
+                try {
+                    tour = objectMapper.treeToValue(node, TourDto.class);
+                } catch (JsonProcessingException e) {
+                    run.reject(row, e.getOriginalMessage());
+                    continue;
+                }
+                run.add(row, tour);
+            }
+        }
+    }
+
+    private void readCsv(InputStream input, ImportRun run) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<String> header = Csv.readRecord(reader);
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // spreadsheet exports often start with a byte order mark
+            columns.put(header.get(i).replace("\uFEFF", "").strip(), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV header must name the columns, e.g. " + String.join(",", CSV_COLUMNS));
+        }
+
+        int row = 0;
+        List<String> record;
+        while ((record = Csv.readRecord(reader)) != null) {
+            row++;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            TourDto tour;
+            try {
+                tour = fromCsv(columns, record);
+            } catch (IllegalArgumentException e) {
+                run.reject(row, e.getMessage());
+                continue;
+            }
+            run.add(row, tour);
+        }
+    }
+
+    private static TourDto fromCsv(Map<String, Integer> columns, List<String> record) {
+        TourDto tour = new TourDto();
+        tour.setTitle(field(columns, record, "title", Function.identity()));
+        tour.setDescription(field(columns, record, "description", Function.identity()));
+        tour.setPrice(field(columns, record, "price", BigDecimal::new));
+        tour.setDuration(field(columns, record, "duration", Integer::valueOf));
+        tour.setDestination(field(columns, record, "destination", Function.identity()));
+        tour.setLatitude(field(columns, record, "latitude", Double::valueOf));
+        tour.setLongitude(field(columns, record, "longitude", Double::valueOf));
+        tour.setCategory(field(columns, record, "category", value -> Tour.Category.valueOf(value.toUpperCase(Locale.ROOT))));
+        tour.setImageUrl(field(columns, record, "imageUrl", Function.identity()));
+        tour.setIncludes(field(columns, record, "includes", value -> Arrays.stream(value.split("\\" + INCLUDES_SEPARATOR))
+                .map(String::strip)
+                .filter(inclusion -> !inclusion.isEmpty())
+                .toList()));
+        tour.setMaxGroupSize(field(columns, record, "maxGroupSize", Integer::valueOf));
+        tour.setDifficulty(field(columns, record, "difficulty", value -> Tour.Difficulty.valueOf(value.toUpperCase(Locale.ROOT))));
+        tour.setIsActive(field(columns, record, "isActive", Boolean::valueOf));
+        return tour;
+    }
+
+    private static <T> T field(Map<String, Integer> columns, List<String> record, String name, Function<String, T> parser) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size() || record.get(index).isBlank()) {
+            return null;
+        }
+        String value = record.get(index).strip();
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid " + name + " '" + value + "'");
+        }
+    }
+
+    private static List<String> toCsv(TourDto tour) {
+        return Arrays.asList(
+                text(tour.getId()),
+                tour.getTitle(),
+                tour.getDescription(),
+                text(tour.getPrice()),
+                text(tour.getDuration()),
+                tour.getDestination(),
+                text(tour.getLatitude()),
+                text(tour.getLongitude()),
+                text(tour.getCategory()),
+                tour.getImageUrl(),
+                tour.getIncludes() != null ? String.join(INCLUDES_SEPARATOR, tour.getIncludes()) : null,
+                text(tour.getMaxGroupSize()),
+                text(tour.getDifficulty()),
+                text(tour.getIsActive()),
+                text(tour.getRating()),
+                text(tour.getReviewCount()),
+                text(tour.getCreatedAt()));
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static String validate(TourDto tour) {
+        if (tour.getTitle() == null || tour.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (tour.getDestination() == null || tour.getDestination().isBlank()) {
+            return "destination is required";
+        }
+        if (tour.getPrice() == null || tour.getPrice().signum() <= 0) {
+            return "price must be greater than 0";
+        }
+        if (tour.getDuration() == null || tour.getDuration() <= 0) {
+            return "duration must be greater than 0";
+        }
+        if ((tour.getLatitude() != null || tour.getLongitude() != null)
+                && !TourGeoIndex.isValid(tour.getLatitude(), tour.getLongitude())) {
+            return "latitude and longitude must be given together, within -90..90 and -180..180";
+        }
+        if (tour.getMaxGroupSize() != null && tour.getMaxGroupSize() <= 0) {
+            return "maxGroupSize must be greater than 0";
+        }
+        if (tour.getTitle().length() > MAX_TEXT_LENGTH || tour.getDestination().length() > MAX_TEXT_LENGTH
+                || (tour.getImageUrl() != null && tour.getImageUrl().length() > MAX_TEXT_LENGTH)) {
+            return "title, destination and imageUrl are limited to " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (tour.getIncludes() != null && tour.getIncludes().stream()
+                .anyMatch(inclusion -> inclusion == null || inclusion.length() > MAX_TEXT_LENGTH)) {
+            return "includes entries must be non-null and at most " + MAX_TEXT_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    private int insert(List<TourDto> batch) {
+        Integer inserted = transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+            long[] ids = new long[batch.size()];
+            try (PreparedStatement tours = connection.prepareStatement(INSERT_TOUR, Statement.RETURN_GENERATED_KEYS)) {
+                for (TourDto tour : batch) {
+                    tours.setString(1, tour.getTitle());
+                    tours.setString(2, tour.getDescription());
+                    tours.setBigDecimal(3, tour.getPrice());
+                    tours.setInt(4, tour.getDuration());
+                    tours.setString(5, tour.getDestination());
+                    tours.setObject(6, tour.getLatitude(), Types.DOUBLE);
+                    tours.setObject(7, tour.getLongitude(), Types.DOUBLE);
+                    tours.setString(8, tour.getCategory() != null ? tour.getCategory().name() : null);
+                    tours.setString(9, tour.getImageUrl());
+                    tours.setObject(10, tour.getMaxGroupSize(), Types.INTEGER);
+                    tours.setString(11, tour.getDifficulty() != null ? tour.getDifficulty().name() : null);
+                    tours.setBoolean(12, !Boolean.FALSE.equals(tour.getIsActive()));
+                    tours.setTimestamp(13, createdAt);
+                    tours.addBatch();
+                }
+                tours.executeBatch();
+                try (ResultSet keys = tours.getGeneratedKeys()) {
+                    int i = 0;
+                    while (keys.next() && i < ids.length) {
+                        ids[i++] = keys.getLong(1);
+                    }
+                    if (i != ids.length) {
+                        throw new IllegalStateException("Expected " + ids.length + " generated tour ids, got " + i);
+                    }
+                }
+            }
+
+            try (PreparedStatement includes = connection.prepareStatement(INSERT_INCLUSION)) {
+                int rows = 0;
+                for (int i = 0; i < ids.length; i++) {
+                    List<String> inclusions = batch.get(i).getIncludes();
+                    if (inclusions == null) {
+                        continue;
+                    }
+                    for (String inclusion : inclusions) {
+                        includes.setLong(1, ids[i]);
+                        includes.setString(2, inclusion);
+                        includes.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows > 0) {
+                    includes.executeBatch();
+                }
+            }
+            return batch.size();
+        }));
+        return inserted != null ? inserted : 0;
+    }
+
+    private void forEachTour(TourWriter writer) throws IOException {
+        String cursor = null;
+        CursorPage<TourDto> page;
+        do {
+            page = tourService.getAllTours(cursor, EXPORT_PAGE_SIZE);
+            for (TourDto tour : page.getContent()) {
+                writer.write(tour);
+            }
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+    }
+
+    @FunctionalInterface
+    private interface TourWriter {
+        void write(TourDto tour) throws IOException;
+    }
+
+    private final class ImportRun {
+        private final List<TourDto> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<String> errors = new ArrayList<>();
+        private int imported;
+        private int rejected;
+
+        private void add(int row, TourDto tour) {
+            String error = validate(tour);
+            if (error != null) {
+                reject(row, error);
+                return;
+            }
+            batch.add(tour);
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void reject(int row, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("row " + row + ": " + reason);
+            }
+        }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                imported += insert(batch);
+                batch.clear();
+            }
+        }
+    }
+}
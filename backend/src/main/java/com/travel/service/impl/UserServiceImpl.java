@@ -1,13 +1,17 @@
 package com.travel.service.impl;
 
 import com.travel.dao.UserDao;
+import com.travel.dto.CursorPage;
 import com.travel.dto.ProfileUpdateDto;
 import com.travel.dto.UserDto;
 import com.travel.dto.UserRegistrationDto;
 import com.travel.entity.User;
 import com.travel.exception.ResourceNotFoundException;
+import com.travel.security.RevokedUserRegistry;
+import com.travel.security.TokenPrincipal;
 import com.travel.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -23,6 +27,10 @@ public class UserServiceImpl implements UserService {
     
     private final UserDao userDao;
     private final PasswordEncoder passwordEncoder;
+    private final RevokedUserRegistry revokedUsers;
+    private final DashboardMetrics dashboardMetrics;
+    private final TourCacheEvictor tourCacheEvictor;
+    private final LastLoginWriter lastLoginWriter;
     
     @Override
     public UserDto registerUser(UserRegistrationDto registrationDto) {
@@ -44,6 +52,7 @@ public class UserServiceImpl implements UserService {
         user.setReviewsGiven(0);
         
         User savedUser = userDao.save(user);
+        dashboardMetrics.usersChanged(1, 1);
         return convertToDto(savedUser);
     }
     
@@ -62,17 +71,17 @@ public class UserServiceImpl implements UserService {
     }
     
     @Override
-    public List<UserDto> getAllUsers() {
-        return userDao.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public CursorPage<UserDto> getAllUsers(String cursor, int size) {
+        List<User> rows = userDao.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(cursor, 0L), CursorPage.fetchSize(size));
+        return CursorPage.of(rows, size, User::getId, this::convertToDto);
     }
     
     @Override
-    public List<UserDto> getAllActiveUsers() {
-        return userDao.findAllActiveUsers().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public CursorPage<UserDto> getAllActiveUsers(String cursor, int size) {
+        List<User> rows = userDao.findActiveUsersAfter(
+                CursorPage.decodeCursor(cursor, 0L), CursorPage.fetchSize(size));
+        return CursorPage.of(rows, size, User::getId, this::convertToDto);
     }
     
     @Override
@@ -86,6 +95,7 @@ public class UserServiceImpl implements UserService {
         user.setAvatarUrl(userDto.getAvatarUrl());
         
         User updatedUser = userDao.save(user);
+        tourCacheEvictor.evictAll();
         return convertToDto(updatedUser);
     }
     
@@ -97,22 +107,34 @@ public class UserServiceImpl implements UserService {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
         userDao.deleteById(id);
+        revokedUsers.revoke(id);
+        dashboardMetrics.invalidate();
+        tourCacheEvictor.evictAll();
     }
     
     @Override
     public void deactivateUser(Long id) {
         User user = userDao.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        boolean wasActive = Boolean.TRUE.equals(user.getIsActive());
         user.setIsActive(false);
         userDao.save(user);
+        revokedUsers.revoke(id);
+        if (wasActive && user.getRole() == User.Role.USER) {
+            dashboardMetrics.usersChanged(0, -1);
+        }
     }
     
     @Override
     public void activateUser(Long id) {
         User user = userDao.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        boolean wasActive = Boolean.TRUE.equals(user.getIsActive());
         user.setIsActive(true);
         userDao.save(user);
+        if (!wasActive && user.getRole() == User.Role.USER) {
+            dashboardMetrics.usersChanged(0, 1);
+        }
     }
     
     @Override
@@ -124,12 +146,12 @@ public class UserServiceImpl implements UserService {
     
     @Override
     public Long getTotalUserCount() {
-        return userDao.countAllUsers();
+        return dashboardMetrics.totalUsers();
     }
     
     @Override
     public Long getActiveUserCount() {
-        return userDao.countActiveUsers();
+        return dashboardMetrics.activeUsers();
     }
     
     @Override
@@ -145,12 +167,29 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
     }
     
+    @Override
+    public Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        if (authentication.getPrincipal() instanceof TokenPrincipal principal) {
+            return principal.getId();
+        }
+        return getCurrentUserEntity().getId();
+    }
+    
     @Override
     public void updateLastLogin(Long userId) {
-        User user = userDao.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        user.setLastLogin(LocalDateTime.now());
-        userDao.save(user);
+        lastLoginWriter.record(userId, LocalDateTime.now());
+    }
+    
+    @Override
+    public UserDto recordLogin(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        user.setLastLogin(now);
+        lastLoginWriter.record(user.getId(), now);
+        return convertToDto(user);
     }
     
     private UserDto convertToDto(User user) {
@@ -183,6 +222,10 @@ public class UserServiceImpl implements UserService {
 		    Optional.ofNullable(updateDto.getAvatarUrl()).ifPresent(user::setAvatarUrl);
 		    
 		    User updatedUser = userDao.save(user);
+		    if (updateDto.getFirstName() != null || updateDto.getLastName() != null || updateDto.getAvatarUrl() != null) {
+		        // reviews embed the author's name and avatar
+		        tourCacheEvictor.evictAll();
+		    }
 		    return convertToDto(updatedUser);
 	}
 } 
\ No newline at end of file
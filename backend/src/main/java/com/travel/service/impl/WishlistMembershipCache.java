@@ -0,0 +1,81 @@
+package com.travel.service.impl;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU of "which tours has this user wishlisted", so membership checks skip the database
+ * once a user's set is loaded. Writes update cached sets in place; a load that raced with a write
+ * is discarded rather than cached.
+ */
+@Component
+class WishlistMembershipCache {
+
+    private static final int MAX_USERS = 50_000;
+
+    private final AtomicLong writes = new AtomicLong();
+    private final Map<Long, Set<Long>> tourIdsByUser = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Set<Long>> eldest) {
+            return size() > MAX_USERS;
+        }
+    };
+
+    boolean contains(Long userId, Long tourId, Function<Long, ? extends Collection<Long>> loader) {
+        Set<Long> tourIds;
+        synchronized (tourIdsByUser) {
+            tourIds = tourIdsByUser.get(userId);
+        }
+        if (tourIds == null) {
+            long writesBeforeLoad = writes.get();
+            tourIds = Set.copyOf(loader.apply(userId));
+            synchronized (tourIdsByUser) {
+                if (writes.get() == writesBeforeLoad) {
+                    tourIdsByUser.putIfAbsent(userId, tourIds);
+                }
+            }
+        }
+        return tourIds.contains(tourId);
+    }
+
+    void added(Long userId, Long tourId) {
+        update(userId, tourId, true);
+    }
+
+    void removed(Long userId, Long tourId) {
+        update(userId, tourId, false);
+    }
+
+    /**
+     * Drops every cached set holding the tour, so those users reload once it has been deleted (taking its
+     * wishlist rows with it) or deactivated.
+     */
+    void evictTour(Long tourId) {
+        synchronized (tourIdsByUser) {
+            writes.incrementAndGet();
+            tourIdsByUser.values().removeIf(tourIds -> tourIds.contains(tourId));
+        }
+    }
+
+    private void update(Long userId, Long tourId, boolean member) {
+        synchronized (tourIdsByUser) {
+            writes.incrementAndGet();
+            tourIdsByUser.computeIfPresent(userId, (id, current) -> {
+                Set<Long> updated = new HashSet<>(current);
+                if (member) {
+                    updated.add(tourId);
+                } else {
+                    updated.remove(tourId);
+                }
+                return Set.copyOf(updated);
+            });
+        }
+    }
+}
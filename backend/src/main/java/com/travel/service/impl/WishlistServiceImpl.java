@@ -3,8 +3,8 @@ package com.travel.service.impl;
 import com.travel.dao.TourDao;
 import com.travel.dao.UserDao;
 import com.travel.dao.WishlistDao;
+import com.travel.dto.CursorPage;
 import com.travel.dto.TourDto;
-import com.travel.dto.UserDto;
 import com.travel.entity.Tour;
 import com.travel.entity.User;
 import com.travel.entity.Wishlist;
@@ -16,7 +16,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +26,7 @@ public class WishlistServiceImpl implements WishlistService {
     private final TourDao tourDao;
     private final UserService userService;
     private final TourService tourService;
+    private final WishlistMembershipCache membershipCache;
     
     @Override
     public void addToWishlist(Long userId, Long tourId) {
@@ -45,6 +45,7 @@ public class WishlistServiceImpl implements WishlistService {
         wishlist.setTour(tour);
         
         wishlistDao.save(wishlist);
+        membershipCache.added(userId, tourId);
     }
     
     @Override
@@ -54,18 +55,25 @@ public class WishlistServiceImpl implements WishlistService {
         }
         
         wishlistDao.deleteByUserIdAndTourId(userId, tourId);
+        membershipCache.removed(userId, tourId);
     }
     
     @Override
-    public List<TourDto> getUserWishlist(Long userId) {
-        return wishlistDao.findUserWishlistOrderByDate(userId).stream()
-                .map(wishlist -> tourService.getTourById(wishlist.getTour().getId()))
-                .collect(Collectors.toList());
+    public CursorPage<TourDto> getUserWishlist(Long userId, String cursor, int size) {
+        List<Wishlist> rows = wishlistDao.findByUserIdAndIdLessThanOrderByIdDesc(
+                userId, CursorPage.decodeCursor(cursor, Long.MAX_VALUE), CursorPage.fetchSize(size));
+        CursorPage<Long> tourIds = CursorPage.of(rows, size, Wishlist::getId, wishlist -> wishlist.getTour().getId());
+        return new CursorPage<>(tourService.getToursByIds(tourIds.getContent()), tourIds.getNextCursor(), tourIds.isHasNext());
     }
     
     @Override
     public boolean isInWishlist(Long userId, Long tourId) {
-        return wishlistDao.existsByUserIdAndTourId(userId, tourId);
+        return membershipCache.contains(userId, tourId, wishlistDao::findTourIdsByUserId);
+    }
+    
+    @Override
+    public boolean isInCurrentUserWishlist(Long tourId) {
+        return isInWishlist(userService.getCurrentUserId(), tourId);
     }
     
     @Override
@@ -74,8 +82,7 @@ public class WishlistServiceImpl implements WishlistService {
     }
     
     @Override
-    public List<TourDto> getCurrentUserWishlist() {
-        UserDto currentUser = userService.getCurrentUser();
-        return getUserWishlist(currentUser.getId());
+    public CursorPage<TourDto> getCurrentUserWishlist(String cursor, int size) {
+        return getUserWishlist(userService.getCurrentUserId(), cursor, size);
     }
 }
\ No newline at end of file
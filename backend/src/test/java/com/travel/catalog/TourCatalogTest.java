@@ -0,0 +1,99 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import com.travel.entity.Tour;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TourCatalogTest {
+
+    private TourSearchIndex searchIndex;
+    private TourCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new TourSearchIndex();
+        catalog = new TourCatalog(List.of(searchIndex));
+        catalog.replaceAll(() -> List.of(tour(1L, "Lisbon Walk", 1L), tour(2L, "Porto Wine", 1L)));
+    }
+
+    @Test
+    void olderCopyDoesNotReplaceNewerOne() {
+        catalog.upsert(tour(1L, "Lisbon Night Walk", 3L));
+        catalog.upsert(tour(1L, "Lisbon Walk", 2L));
+
+        assertEquals("Lisbon Night Walk", snapshot().findById(1L).getTitle());
+        assertEquals(List.of(1L), searchIndex.search("night", 0, 10));
+    }
+
+    @Test
+    void staleCopyArrivingAfterDeleteDoesNotResurrectTour() {
+        TourDto readBeforeDelete = tour(2L, "Porto Wine Tasting", 2L);
+        catalog.remove(2L);
+        catalog.upsert(readBeforeDelete);
+
+        assertNull(snapshot().findById(2L));
+        assertEquals(1, snapshot().size());
+        assertTrue(searchIndex.search("porto", 0, 10).isEmpty());
+    }
+
+    @Test
+    void reloadReadBeforeDeleteDoesNotResurrectTour() {
+        List<TourDto> readBeforeDelete = List.of(tour(1L, "Lisbon Walk", 1L), tour(2L, "Porto Wine", 1L));
+        catalog.remove(2L);
+        catalog.replaceAll(() -> readBeforeDelete);
+
+        assertNull(snapshot().findById(2L));
+        assertTrue(searchIndex.search("porto", 0, 10).isEmpty());
+    }
+
+    @Test
+    void upsertCommittedDuringReloadIsNotOverwritten() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        Thread reload = new Thread(() -> catalog.replaceAll(() -> {
+            reading.countDown();
+            sleep(200);
+            return List.of(tour(1L, "Lisbon Walk", 1L), tour(2L, "Porto Wine", 1L));
+        }));
+        reload.start();
+        reading.await();
+        catalog.upsert(tour(1L, "Lisbon Night Walk", 2L));
+        reload.join();
+
+        assertEquals("Lisbon Night Walk", snapshot().findById(1L).getTitle());
+    }
+
+    private TourCatalogSnapshot snapshot() {
+        return catalog.snapshot(List::of);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static TourDto tour(Long id, String title, Long version) {
+        TourDto tour = new TourDto();
+        tour.setId(id);
+        tour.setTitle(title);
+        tour.setPrice(BigDecimal.valueOf(100));
+        tour.setDuration(2);
+        tour.setDestination(title.split(" ")[0]);
+        tour.setCategory(Tour.Category.CITY);
+        tour.setIncludes(List.of());
+        tour.setIsActive(true);
+        tour.setVersion(version);
+        return tour;
+    }
+}
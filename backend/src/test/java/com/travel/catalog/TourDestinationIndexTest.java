@@ -0,0 +1,84 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TourDestinationIndexTest {
+
+    private final TourDestinationIndex index = new TourDestinationIndex();
+
+    @Test
+    void exactMatchReturnsEveryStoredSpelling() {
+        index.rebuild(List.of(tour(1L, "Zürich"), tour(2L, "ZURICH"), tour(3L, "Zug")));
+
+        assertEquals(List.of("ZURICH", "Zürich"), index.resolve("zurich"));
+    }
+
+    @Test
+    void resolvesDistanceOneTypos() {
+        index.rebuild(List.of(tour(1L, "Lisbon"), tour(2L, "Amsterdam")));
+
+        assertEquals(List.of("Lisbon"), index.resolve("Lisbn"));
+        assertEquals(List.of("Lisbon"), index.resolve("Lsibon"));
+        assertEquals(List.of("Lisbon"), index.resolve("Lisboa"));
+        // the typo lies past the indexed prefix and is caught by the full edit distance check
+        assertEquals(List.of("Amsterdam"), index.resolve("Amsterdamm"));
+    }
+
+    @Test
+    void resolvesDistanceTwoTyposOnlyForLongerWords() {
+        index.rebuild(List.of(tour(1L, "Barcelona"), tour(2L, "Rome")));
+
+        assertEquals(List.of("Barcelona"), index.resolve("Brcelna"));
+        assertEquals(List.of("Barcelona"), index.resolve("Barselonna"));
+        assertEquals(List.of("Rome"), index.resolve("Rom"));
+        assertTrue(index.resolve("Rm").isEmpty());
+    }
+
+    @Test
+    void tiesGoToTheDestinationWithMoreTours() {
+        List<TourDto> tours = new ArrayList<>(List.of(tour(1L, "Paros"), tour(2L, "Paris"), tour(3L, "Paris")));
+        index.rebuild(tours);
+        assertEquals(List.of("Paris"), index.resolve("Pares"));
+
+        index.upsert(tour(4L, "Paros"));
+        index.upsert(tour(5L, "Paros"));
+        assertEquals(List.of("Paros"), index.resolve("Pares"));
+
+        index.remove(4L);
+        // equal counts fall back to alphabetical order
+        assertEquals(List.of("Paris"), index.resolve("Pares"));
+    }
+
+    @Test
+    void removedDestinationNoLongerResolves() {
+        index.rebuild(List.of(tour(1L, "Paris"), tour(2L, "Paros")));
+        index.remove(1L);
+
+        assertEquals(List.of("Paros"), index.resolve("Pares"));
+        assertEquals(List.of("Paros"), index.resolve("Paris"));
+    }
+
+    @Test
+    void nothingCloseEnoughResolvesToNothing() {
+        index.rebuild(List.of(tour(1L, "Lisbon"), tour(2L, "Porto")));
+
+        assertTrue(index.resolve("Tokyo").isEmpty());
+        assertTrue(index.resolve("Lisabonne").isEmpty());
+        assertTrue(index.resolve("  ").isEmpty());
+    }
+
+    private static TourDto tour(Long id, String destination) {
+        TourDto tour = new TourDto();
+        tour.setId(id);
+        tour.setDestination(destination);
+        tour.setIsActive(true);
+        return tour;
+    }
+}
@@ -0,0 +1,136 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import com.travel.dto.TourFilterDto;
+import com.travel.entity.Tour;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TourFacetIndexTest {
+
+    private final TourFacetIndex index = new TourFacetIndex();
+
+    @Test
+    void priceRangeIsInclusiveAndBucketsIncludeTheirLowerEdge() {
+        index.rebuild(List.of(
+                tour(1L, "499.99", 3, Tour.Category.CITY),
+                tour(2L, "500", 3, Tour.Category.CITY),
+                tour(3L, "1000", 3, Tour.Category.CITY),
+                tour(4L, "1000.01", 3, Tour.Category.CITY),
+                tour(5L, "5000", 3, Tour.Category.CITY)));
+
+        TourFilterDto filter = new TourFilterDto();
+        filter.setMinPrice(new BigDecimal("500"));
+        filter.setMaxPrice(new BigDecimal("1000"));
+        TourFacetIndex.Result result = index.filter(filter, 0, 10);
+        assertEquals(List.of(2L, 3L), result.getIds());
+
+        // the price facet is counted without the price filter itself
+        assertEquals(Map.of("0-500", 1, "500-1000", 1, "1000-2000", 2, "2000-5000", 0, "5000+", 1),
+                result.getFacets().get(TourFacetIndex.PRICE));
+    }
+
+    @Test
+    void durationRangeChecksToursInPartiallyCoveredBuckets() {
+        index.rebuild(List.of(
+                tour(1L, "100", 3, Tour.Category.CITY),
+                tour(2L, "100", 4, Tour.Category.CITY),
+                tour(3L, "100", 7, Tour.Category.CITY),
+                tour(4L, "100", 8, Tour.Category.CITY),
+                tour(5L, "100", 15, Tour.Category.CITY)));
+
+        assertEquals(List.of(1L, 2L), index.filter(durations(null, 4), 0, 10).getIds());
+        assertEquals(List.of(2L, 3L), index.filter(durations(4, 7), 0, 10).getIds());
+        assertEquals(List.of(4L, 5L), index.filter(durations(8, null), 0, 10).getIds());
+        assertTrue(index.filter(durations(9, 14), 0, 10).getIds().isEmpty());
+    }
+
+    @Test
+    void valuesBelowTheFirstEdgeAreCheckedAgainstTheRange() {
+        index.rebuild(List.of(
+                tour(1L, "100", 0, Tour.Category.CITY),
+                tour(2L, "100", 2, Tour.Category.CITY)));
+
+        assertEquals(List.of(2L), index.filter(durations(1, 3), 0, 10).getIds());
+        assertEquals(List.of(2L), index.filter(durations(1, 5), 0, 10).getIds());
+    }
+
+    @Test
+    void emptyFacetValueMatchesNothingButKeepsOtherCounts() {
+        index.rebuild(List.of(
+                tour(1L, "100", 3, Tour.Category.CITY),
+                tour(2L, "200", 3, Tour.Category.FOOD)));
+
+        TourFilterDto filter = new TourFilterDto();
+        filter.setCategory(List.of(Tour.Category.CRUISE));
+        TourFacetIndex.Result result = index.filter(filter, 0, 10);
+
+        assertTrue(result.getIds().isEmpty());
+        assertEquals(0, result.getTotal());
+        Map<String, Integer> categories = result.getFacets().get(TourFacetIndex.CATEGORY);
+        assertEquals(1, categories.get("CITY"));
+        assertEquals(1, categories.get("FOOD"));
+        assertEquals(0, categories.get("CRUISE"));
+        assertEquals(0, result.getFacets().get(TourFacetIndex.PRICE).get("0-500"));
+    }
+
+    @Test
+    void removedAndDeactivatedToursLeaveTheCounts() {
+        index.rebuild(List.of(
+                tour(1L, "100", 3, Tour.Category.CITY),
+                tour(2L, "600", 5, Tour.Category.CITY),
+                tour(3L, "700", 5, Tour.Category.FOOD)));
+
+        index.remove(2L);
+        TourDto inactive = tour(3L, "700", 5, Tour.Category.FOOD);
+        inactive.setIsActive(false);
+        index.upsert(inactive);
+        index.upsert(tour(1L, "100", 3, Tour.Category.BEACH));
+
+        TourFacetIndex.Result result = index.filter(new TourFilterDto(), 0, 10);
+        assertEquals(List.of(1L), result.getIds());
+        assertEquals(1, result.getTotal());
+        Map<String, Integer> categories = result.getFacets().get(TourFacetIndex.CATEGORY);
+        assertEquals(0, categories.get("CITY"));
+        assertEquals(0, categories.get("FOOD"));
+        assertEquals(1, categories.get("BEACH"));
+        assertEquals(0, result.getFacets().get(TourFacetIndex.PRICE).get("500-1000"));
+        assertEquals(0, result.getFacets().get(TourFacetIndex.DURATION).get("4-8"));
+    }
+
+    @Test
+    void offsetSkipsMatchesInIdOrder() {
+        index.rebuild(List.of(
+                tour(1L, "100", 3, Tour.Category.CITY),
+                tour(2L, "100", 3, Tour.Category.CITY),
+                tour(3L, "100", 3, Tour.Category.CITY)));
+
+        TourFacetIndex.Result result = index.filter(new TourFilterDto(), 1, 1);
+        assertEquals(List.of(2L), result.getIds());
+        assertEquals(3, result.getTotal());
+    }
+
+    private static TourFilterDto durations(Integer min, Integer max) {
+        TourFilterDto filter = new TourFilterDto();
+        filter.setMinDuration(min);
+        filter.setMaxDuration(max);
+        return filter;
+    }
+
+    private static TourDto tour(Long id, String price, int duration, Tour.Category category) {
+        TourDto tour = new TourDto();
+        tour.setId(id);
+        tour.setPrice(new BigDecimal(price));
+        tour.setDuration(duration);
+        tour.setCategory(category);
+        tour.setDifficulty(Tour.Difficulty.EASY);
+        tour.setIsActive(true);
+        return tour;
+    }
+}
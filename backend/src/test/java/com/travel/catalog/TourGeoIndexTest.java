@@ -0,0 +1,148 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import com.travel.entity.Tour;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks nearest-neighbour answers against a brute-force scan over a catalog of 300,000 tours, most of them
+ * clustered around a few cities so that large parts of the globe are empty.
+ */
+class TourGeoIndexTest {
+
+    private static final int TOURS = 300_000;
+    private static final double[][] CITIES = {
+            {38.72, -9.14}, {41.15, -8.61}, {48.86, 2.35}, {40.71, -74.01}, {35.68, 139.69},
+            {-33.87, 151.21}, {-22.91, -43.17}, {1.35, 103.82}, {64.15, -21.94}, {-54.80, -68.30}};
+
+    private static final Random random = new Random(42);
+    private static final TourGeoIndex index = new TourGeoIndex();
+    private static final double[] latitudes = new double[TOURS];
+    private static final double[] longitudes = new double[TOURS];
+    private static final double[] cosLatitudes = new double[TOURS];
+    private static final Tour.Category[] categories = new Tour.Category[TOURS];
+
+    @BeforeAll
+    static void buildCatalog() {
+        List<TourDto> tours = new ArrayList<>(TOURS);
+        for (long id = 1; id <= TOURS; id++) {
+            double latitude;
+            double longitude;
+            if (random.nextInt(20) == 0) {
+                latitude = random.nextDouble() * 180 - 90;
+                longitude = random.nextDouble() * 360 - 180;
+            } else {
+                double[] city = CITIES[random.nextInt(CITIES.length)];
+                latitude = Math.max(-90, Math.min(90, city[0] + random.nextGaussian() * 0.5));
+                longitude = Math.max(-180, Math.min(180, city[1] + random.nextGaussian() * 0.5));
+            }
+            int i = (int) id - 1;
+            latitudes[i] = latitude;
+            longitudes[i] = longitude;
+            cosLatitudes[i] = Math.cos(Math.toRadians(latitude));
+            categories[i] = Tour.Category.values()[random.nextInt(Tour.Category.values().length)];
+            tours.add(tour(id, latitude, longitude, categories[i]));
+        }
+        index.rebuild(tours);
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        for (int query = 0; query < 60; query++) {
+            double latitude = random.nextDouble() * 180 - 90;
+            double longitude = random.nextDouble() * 360 - 180;
+            int limit = new int[]{1, 10, 50}[query % 3];
+            assertMatches(latitude, longitude, null, null, limit);
+        }
+    }
+
+    @Test
+    void nearestWithinRadiusAndCategoryMatchesBruteForce() {
+        for (int query = 0; query < 40; query++) {
+            double[] city = CITIES[query % CITIES.length];
+            double latitude = city[0] + random.nextGaussian() * 3;
+            double longitude = city[1] + random.nextGaussian() * 3;
+            Tour.Category category = query % 2 == 0 ? Tour.Category.FOOD : null;
+            assertMatches(latitude, longitude, 100.0 + random.nextInt(400), category, 20);
+        }
+    }
+
+    @Test
+    void queriesAcrossTheAntimeridianAndPolesMatchBruteForce() {
+        double[][] points = {{0, 179.9}, {0, -179.9}, {-16.5, 179.99}, {89.9, 0}, {-89.9, 120}, {90, -180}};
+        for (double[] point : points) {
+            assertMatches(point[0], point[1], null, null, 10);
+            assertMatches(point[0], point[1], 2000.0, null, 10);
+        }
+    }
+
+    @Test
+    void emptyRadiusReturnsNothing() {
+        // the middle of the South Pacific, far from every city and from most of the uniform tours
+        List<TourGeoIndex.Hit> hits = index.nearest(-48.88, -123.39, 0.001, null, 10);
+        assertTrue(hits.isEmpty());
+    }
+
+    private static void assertMatches(double latitude, double longitude, Double radiusKm, Tour.Category category, int limit) {
+        List<TourGeoIndex.Hit> hits = index.nearest(latitude, longitude, radiusKm, category, limit);
+        double[] expected = bruteForce(latitude, longitude, radiusKm, category, limit);
+        double[] actual = hits.stream().mapToDouble(TourGeoIndex.Hit::getDistanceKm).toArray();
+        String query = "query (" + latitude + ", " + longitude + ") radius " + radiusKm + " category " + category;
+        assertEquals(expected.length, actual.length, query);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], 1e-6, query + " hit " + i + " of " + Arrays.toString(actual));
+        }
+        assertTrue(hits.stream().map(TourGeoIndex.Hit::getDistanceKm).sorted(Comparator.naturalOrder()).toList()
+                .equals(hits.stream().map(TourGeoIndex.Hit::getDistanceKm).toList()));
+    }
+
+    private static double[] bruteForce(double latitude, double longitude, Double radiusKm, Tour.Category category, int limit) {
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        // compared on the haversine term, farthest on top, so the heap keeps the closest limit tours
+        PriorityQueue<Double> closest = new PriorityQueue<>(Comparator.reverseOrder());
+        for (int i = 0; i < TOURS; i++) {
+            if (category != null && categories[i] != category) {
+                continue;
+            }
+            double dLatitude = Math.sin(Math.toRadians(latitudes[i] - latitude) / 2);
+            double dLongitude = Math.sin(Math.toRadians(longitudes[i] - longitude) / 2);
+            double haversine = dLatitude * dLatitude + cosLatitude * cosLatitudes[i] * dLongitude * dLongitude;
+            if (closest.size() == limit && haversine >= closest.peek()) {
+                continue;
+            }
+            double distance = 2 * TourGeoIndex.EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1, haversine)));
+            if (radiusKm != null && distance > radiusKm) {
+                continue;
+            }
+            closest.add(haversine);
+            if (closest.size() > limit) {
+                closest.poll();
+            }
+        }
+        return closest.stream()
+                .mapToDouble(haversine -> 2 * TourGeoIndex.EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1, haversine))))
+                .sorted()
+                .toArray();
+    }
+
+    private static TourDto tour(long id, double latitude, double longitude, Tour.Category category) {
+        TourDto tour = new TourDto();
+        tour.setId(id);
+        tour.setLatitude(latitude);
+        tour.setLongitude(longitude);
+        tour.setCategory(category);
+        tour.setIsActive(true);
+        return tour;
+    }
+}
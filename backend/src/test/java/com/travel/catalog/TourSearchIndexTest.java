@@ -0,0 +1,56 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TourSearchIndexTest {
+
+    private final TourSearchIndex index = new TourSearchIndex();
+
+    @Test
+    void prefixExpandsToEveryIndexedTermItStarts() {
+        List<TourDto> tours = new ArrayList<>();
+        // a hundred terms that sort before "salzburg"
+        for (long id = 1; id <= 100; id++) {
+            tours.add(tour(id, String.format("Sal%03d Walk", id)));
+        }
+        tours.add(tour(500L, "Salzburg Walk"));
+        index.rebuild(tours);
+
+        List<Long> hits = index.search("sal", 0, 200);
+        assertEquals(101, hits.size());
+        assertTrue(hits.contains(500L));
+        assertEquals(List.of(500L), index.search("salz walk", 0, 10));
+    }
+
+    @Test
+    void shortTermsOnlyMatchWholeWords() {
+        index.rebuild(List.of(tour(1L, "Old Town Walk"), tour(2L, "Ol Doinyo Lengai Trek")));
+
+        assertEquals(List.of(2L), index.search("ol", 0, 10));
+        assertEquals(List.of(1L), index.search("old", 0, 10));
+        assertEquals(List.of(1L), index.search("tow walk", 0, 10));
+        assertTrue(index.search("to", 0, 10).isEmpty());
+    }
+
+    @Test
+    void exactMatchOutranksPrefixMatch() {
+        index.rebuild(List.of(tour(1L, "Porto Tour"), tour(2L, "Port Tour")));
+
+        assertEquals(List.of(2L, 1L), index.search("port", 0, 10));
+    }
+
+    private static TourDto tour(Long id, String title) {
+        TourDto tour = new TourDto();
+        tour.setId(id);
+        tour.setTitle(title);
+        tour.setIsActive(true);
+        return tour;
+    }
+}
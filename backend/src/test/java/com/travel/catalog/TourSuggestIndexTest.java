@@ -0,0 +1,150 @@
+package com.travel.catalog;
+
+import com.travel.dto.TourDto;
+import com.travel.dto.TourSuggestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TourSuggestIndexTest {
+
+    private final TourSuggestIndex index = new TourSuggestIndex();
+
+    @Test
+    void completesAnyWordOfTitlesAndDestinations() {
+        index.rebuild(List.of(
+                tour(1L, "Romantic Paris Getaway", "Paris", 4.5, 10),
+                tour(2L, "Parma Food Tour", "Parma", 4.9, 3)));
+
+        // a destination weighs the same as its only tour; ties go to the alphabetically first text
+        assertEquals(List.of("Paris", "Romantic Paris Getaway", "Parma", "Parma Food Tour"), texts("par", 10));
+        assertEquals(List.of("Parma Food Tour"), texts("food t", 10));
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+    }
+
+    @Test
+    void destinationWeighsTheSumOfItsTours() {
+        index.rebuild(List.of(
+                tour(1L, "Lisbon Trams", "Lisbon", 4.0, 10),
+                tour(2L, "Lisbon Fado Night", "Lisbon", 4.0, 10),
+                tour(3L, "Lisbon Bites", "Lisbon", 5.0, 20)));
+
+        TourSuggestionDto first = index.suggest("lis", 1).get(0);
+        assertEquals(TourSuggestionDto.Type.DESTINATION, first.getType());
+        assertEquals(4.0 * Math.log1p(10) * 2 + 5.0 * Math.log1p(20), first.getWeight(), 1e-9);
+    }
+
+    @Test
+    void upsertAndRemoveMoveTheBestCompletion() {
+        index.rebuild(List.of(
+                tour(1L, "Alpine Hike", "Zermatt", 4.0, 5),
+                tour(2L, "Alpine Lakes", "Como", 3.0, 5)));
+        assertEquals(List.of("Alpine Hike"), texts("alp", 1));
+
+        index.upsert(tour(2L, "Alpine Lakes", "Como", 5.0, 50));
+        assertEquals(List.of("Alpine Lakes"), texts("alp", 1));
+
+        index.upsert(tour(2L, "Alpine Lakes", "Como", 1.0, 1));
+        assertEquals(List.of("Alpine Hike"), texts("alp", 1));
+
+        index.remove(1L);
+        assertEquals(List.of("Alpine Lakes"), texts("alp", 10));
+        assertTrue(index.suggest("zer", 10).isEmpty());
+
+        TourDto inactive = tour(2L, "Alpine Lakes", "Como", 1.0, 1);
+        inactive.setIsActive(false);
+        index.upsert(inactive);
+        assertTrue(index.suggest("alp", 10).isEmpty());
+    }
+
+    @Test
+    void randomWritesMatchBruteForce() {
+        String[] words = {"tour", "city", "lisbon", "porto", "food", "wine", "walk", "night", "lake", "lagos"};
+        Random random = new Random(7);
+        Map<Long, TourDto> live = new HashMap<>();
+        List<TourDto> initial = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            TourDto tour = randomTour(id, words, random);
+            live.put(id, tour);
+            initial.add(tour);
+        }
+        index.rebuild(initial);
+
+        for (int step = 0; step < 2000; step++) {
+            long id = 1 + random.nextInt(400);
+            if (random.nextInt(4) == 0) {
+                live.remove(id);
+                index.remove(id);
+            } else {
+                TourDto tour = randomTour(id, words, random);
+                live.put(id, tour);
+                index.upsert(tour);
+            }
+            if (step % 20 == 0) {
+                for (String prefix : new String[]{"t", "l", "la", "tour", "porto w", "n"}) {
+                    assertEquals(bruteForce(live, prefix, 5), texts(prefix, 5), "prefix " + prefix + " at step " + step);
+                }
+            }
+        }
+    }
+
+    private List<String> texts(String prefix, int limit) {
+        return index.suggest(prefix, limit).stream().map(TourSuggestionDto::getText).toList();
+    }
+
+    private static List<String> bruteForce(Map<Long, TourDto> tours, String prefix, int limit) {
+        Map<String, Double> weights = new HashMap<>();
+        for (TourDto tour : tours.values()) {
+            double weight = tour.getRating() * Math.log1p(tour.getReviewCount());
+            if (completes(tour.getTitle(), prefix)) {
+                weights.put(tour.getTitle(), weight);
+            }
+            if (completes(tour.getDestination(), prefix)) {
+                weights.merge(tour.getDestination(), weight, Double::sum);
+            }
+        }
+        return weights.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static boolean completes(String phrase, String prefix) {
+        String normalized = TextNormalizer.normalize(phrase);
+        for (int start = 0; start >= 0; ) {
+            if (normalized.startsWith(prefix, start)) {
+                return true;
+            }
+            int space = normalized.indexOf(' ', start);
+            start = space >= 0 ? space + 1 : -1;
+        }
+        return false;
+    }
+
+    // titles are unique per id and destinations are upper case, so the two never share a suggestion text
+    private static TourDto randomTour(long id, String[] words, Random random) {
+        String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + id;
+        String destination = words[random.nextInt(words.length)].toUpperCase();
+        return tour(id, title, destination, 1 + random.nextDouble() * 4, 1 + random.nextInt(100));
+    }
+
+    private static TourDto tour(Long id, String title, String destination, double rating, int reviewCount) {
+        TourDto tour = new TourDto();
+        tour.setId(id);
+        tour.setTitle(title);
+        tour.setDestination(destination);
+        tour.setRating(rating);
+        tour.setReviewCount(reviewCount);
+        tour.setIsActive(true);
+        return tour;
+    }
+}
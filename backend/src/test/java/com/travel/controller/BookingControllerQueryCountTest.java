@@ -0,0 +1,120 @@
+package com.travel.controller;
+
+import com.travel.dao.BookingDao;
+import com.travel.dao.TourDao;
+import com.travel.dao.UserDao;
+import com.travel.entity.Booking;
+import com.travel.entity.Tour;
+import com.travel.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the booking listings to a single SELECT each: the DTOs are built by one joined projection
+ * query, so the lazy user and tour associations are never loaded row by row.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class BookingControllerQueryCountTest {
+
+    private static final int BOOKINGS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TourDao tourDao;
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private BookingDao bookingDao;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (bookingDao.count() > 0) {
+            return;
+        }
+        List<Tour> tours = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Tour tour = new Tour();
+            tour.setTitle("Query Count Tour " + i);
+            tour.setPrice(BigDecimal.valueOf(100 + i));
+            tour.setDuration(3);
+            tour.setDestination("Destination " + i);
+            tours.add(tourDao.save(tour));
+
+            User user = new User();
+            user.setFirstName("Query");
+            user.setLastName("Count " + i);
+            user.setEmail("query-count-" + i + "@example.com");
+            user.setPassword("not-a-real-hash");
+            users.add(userDao.save(user));
+        }
+        for (int i = 0; i < BOOKINGS; i++) {
+            Booking booking = new Booking();
+            booking.setUser(users.get(i % users.size()));
+            booking.setTour(tours.get(i % tours.size()));
+            booking.setBookingDate(LocalDate.now());
+            booking.setTravelDate(LocalDate.now().plusDays(20));
+            booking.setEndDate(LocalDate.now().plusDays(23));
+            booking.setGuests(1);
+            booking.setTotalAmount(BigDecimal.valueOf(100));
+            bookingDao.save(booking);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/bookings", "/bookings/status/PENDING", "/api/admin/bookings"})
+    void pagedListingsRunOneStatement(String path) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(BOOKINGS));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/bookings/user/", "/bookings/tour/"})
+    void ownerListingsRunOneStatement(String path) throws Exception {
+        Long ownerId = path.contains("user")
+                ? userDao.findByEmail("query-count-0@example.com").orElseThrow().getId()
+                : tourDao.findAll().stream().filter(tour -> tour.getTitle().equals("Query Count Tour 0"))
+                        .findFirst().orElseThrow().getId();
+        statistics.clear();
+        mockMvc.perform(get(path + ownerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(BOOKINGS / 3));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,139 @@
+package com.travel.service;
+
+import com.travel.dao.BookingDao;
+import com.travel.dao.DailyBookingRollupDao;
+import com.travel.dao.TourDao;
+import com.travel.dao.UserDao;
+import com.travel.dto.BookingDto;
+import com.travel.dto.TourDto;
+import com.travel.entity.Booking;
+import com.travel.entity.DailyBookingRollup;
+import com.travel.entity.Tour;
+import com.travel.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingRollupAttributionTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TourService tourService;
+
+    @Autowired
+    private TourDao tourDao;
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private BookingDao bookingDao;
+
+    @Autowired
+    private DailyBookingRollupDao dailyRollupDao;
+
+    @Test
+    void statusChangeAfterTourEditStaysOnTheOriginalRollupRow() {
+        Tour tour = new Tour();
+        tour.setTitle("Rollup Attribution Tour");
+        tour.setPrice(BigDecimal.valueOf(300));
+        tour.setDuration(2);
+        tour.setDestination("Porto");
+        tour.setCategory(Tour.Category.FOOD);
+        tour = tourDao.save(tour);
+
+        User user = new User();
+        user.setFirstName("Rollup");
+        user.setLastName("User");
+        user.setEmail("rollup@example.com");
+        user.setPassword("not-a-real-hash");
+        user = userDao.save(user);
+
+        BookingDto booking = new BookingDto();
+        booking.setUserId(user.getId());
+        booking.setTourId(tour.getId());
+        booking.setTravelDate(LocalDate.now().plusDays(10));
+        booking.setEndDate(LocalDate.now().plusDays(12));
+        booking.setGuests(2);
+        booking.setTotalAmount(BigDecimal.valueOf(600));
+        Long bookingId = bookingService.createBooking(booking).getId();
+
+        TourDto edit = new TourDto();
+        edit.setTitle(tour.getTitle());
+        edit.setPrice(tour.getPrice());
+        edit.setDuration(tour.getDuration());
+        edit.setDestination("Lisbon");
+        edit.setCategory(Tour.Category.CITY);
+        edit.setIncludes(new ArrayList<>());
+        edit.setIsActive(true);
+        tourService.updateTour(tour.getId(), edit);
+
+        bookingService.updateBookingStatus(bookingId, Booking.BookingStatus.CONFIRMED);
+
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        List<DailyBookingRollup> rows = dailyRollupDao.findInRange(today, today.plusDays(1)).stream()
+                .filter(row -> row.getDestination().equals("Porto") || row.getDestination().equals("Lisbon"))
+                .toList();
+        assertTrue(rows.stream().allMatch(row -> row.getBookingCount() >= 0));
+        assertTrue(rows.stream().noneMatch(row -> row.getDestination().equals("Lisbon") && row.getBookingCount() != 0));
+        long confirmedInPorto = rows.stream()
+                .filter(row -> row.getDestination().equals("Porto") && row.getCategory().equals("FOOD"))
+                .filter(row -> row.getBookingStatus() == Booking.BookingStatus.CONFIRMED)
+                .mapToLong(DailyBookingRollup::getBookingCount)
+                .sum();
+        assertEquals(1, confirmedInPorto);
+    }
+
+    @Test
+    void statusChangeOfBookingMadeBeforeRollupsNeverGoesNegative() {
+        Tour tour = new Tour();
+        tour.setTitle("Legacy Rollup Tour");
+        tour.setPrice(BigDecimal.valueOf(150));
+        tour.setDuration(1);
+        tour.setDestination("Faro");
+        tour.setCategory(Tour.Category.BEACH);
+        tour = tourDao.save(tour);
+
+        User user = new User();
+        user.setFirstName("Legacy");
+        user.setLastName("User");
+        user.setEmail("legacy-rollup@example.com");
+        user.setPassword("not-a-real-hash");
+        user = userDao.save(user);
+
+        // saved straight through the DAO, as bookings were before rollups were recorded
+        Booking legacy = new Booking();
+        legacy.setUser(user);
+        legacy.setTour(tour);
+        legacy.setBookingDate(LocalDate.now());
+        legacy.setTravelDate(LocalDate.now().plusDays(5));
+        legacy.setEndDate(LocalDate.now().plusDays(6));
+        legacy.setGuests(1);
+        legacy.setTotalAmount(BigDecimal.valueOf(150));
+        Long bookingId = bookingDao.save(legacy).getId();
+
+        bookingService.updateBookingStatus(bookingId, Booking.BookingStatus.CANCELLED);
+
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        List<DailyBookingRollup> rows = dailyRollupDao.findInRange(today, today.plusDays(1)).stream()
+                .filter(row -> "Faro".equals(row.getDestination()))
+                .toList();
+        assertTrue(rows.stream().allMatch(row -> row.getBookingCount() >= 0
+                && row.getAmount().signum() >= 0));
+        assertEquals(1, rows.stream().mapToLong(DailyBookingRollup::getBookingCount).sum());
+    }
+}
@@ -0,0 +1,164 @@
+package com.travel.service;
+
+import com.travel.dao.BookingDao;
+import com.travel.dao.TourDao;
+import com.travel.dao.TourDepartureDao;
+import com.travel.dao.UserDao;
+import com.travel.dto.BookingDto;
+import com.travel.dto.TourDto;
+import com.travel.entity.Tour;
+import com.travel.entity.TourDeparture;
+import com.travel.entity.User;
+import com.travel.exception.InsufficientCapacityException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int ATTEMPTS = 2_400;
+    private static final int CAPACITY = 1_000;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TourService tourService;
+
+    @Autowired
+    private TourDao tourDao;
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private BookingDao bookingDao;
+
+    @Autowired
+    private TourDepartureDao tourDepartureDao;
+
+    @Test
+    void concurrentBookingsNeverOversellADeparture() throws Exception {
+        Tour tour = tourDao.save(tour("Concurrency Test Tour", CAPACITY));
+        User user = userDao.save(user("concurrency@example.com"));
+        LocalDate travelDate = LocalDate.now().plusDays(30);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> attempts = new ArrayList<>();
+        try {
+            for (int i = 0; i < ATTEMPTS; i++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.createBooking(booking(user, tour, travelDate, 1));
+                        confirmed.incrementAndGet();
+                    } catch (InsufficientCapacityException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> attempt : attempts) {
+                attempt.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(CAPACITY, confirmed.get());
+        assertEquals(ATTEMPTS - CAPACITY, rejected.get());
+        assertEquals(CAPACITY, bookingDao.sumBookedGuests(tour.getId(), travelDate).intValue());
+        TourDeparture departure = tourDepartureDao.findByTourIdAndTravelDate(tour.getId(), travelDate).orElseThrow();
+        assertEquals(CAPACITY, departure.getBookedSeats());
+    }
+
+    @Test
+    void capacityChangeRecountsSeatsBookedWhileUnlimited() {
+        Tour tour = tourDao.save(tour("Capacity Change Tour", CAPACITY));
+        User user = userDao.save(user("capacity@example.com"));
+        LocalDate travelDate = LocalDate.now().plusDays(30);
+
+        bookingService.createBooking(booking(user, tour, travelDate, 2));
+        tourService.updateTour(tour.getId(), withMaxGroupSize(tour, null));
+        bookingService.createBooking(booking(user, tour, travelDate, 3));
+        tourService.updateTour(tour.getId(), withMaxGroupSize(tour, 5));
+
+        TourDeparture departure = tourDepartureDao.findByTourIdAndTravelDate(tour.getId(), travelDate).orElseThrow();
+        assertEquals(5, departure.getBookedSeats());
+        assertThrows(InsufficientCapacityException.class,
+                () -> bookingService.createBooking(booking(user, tour, travelDate, 1)));
+        assertEquals(5, bookingDao.sumBookedGuests(tour.getId(), travelDate).intValue());
+    }
+
+    private static TourDto withMaxGroupSize(Tour tour, Integer maxGroupSize) {
+        TourDto update = new TourDto();
+        update.setTitle(tour.getTitle());
+        update.setDescription(tour.getDescription());
+        update.setPrice(tour.getPrice());
+        update.setDuration(tour.getDuration());
+        update.setDestination(tour.getDestination());
+        update.setCategory(tour.getCategory());
+        update.setIncludes(new ArrayList<>(tour.getIncludes()));
+        update.setDifficulty(tour.getDifficulty());
+        update.setIsActive(tour.getIsActive());
+        update.setMaxGroupSize(maxGroupSize);
+        return update;
+    }
+
+    private static Tour tour(String title, Integer maxGroupSize) {
+        Tour tour = new Tour();
+        tour.setTitle(title);
+        tour.setDescription("Test tour");
+        tour.setPrice(BigDecimal.valueOf(500));
+        tour.setDuration(3);
+        tour.setDestination("Lisbon");
+        tour.setCategory(Tour.Category.CITY);
+        tour.setDifficulty(Tour.Difficulty.EASY);
+        tour.setIncludes(new ArrayList<>(List.of("Guide")));
+        tour.setMaxGroupSize(maxGroupSize);
+        return tour;
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setPassword("not-a-real-hash");
+        return user;
+    }
+
+    private static BookingDto booking(User user, Tour tour, LocalDate travelDate, int guests) {
+        BookingDto booking = new BookingDto();
+        booking.setUserId(user.getId());
+        booking.setTourId(tour.getId());
+        booking.setTravelDate(travelDate);
+        booking.setEndDate(travelDate.plusDays(tour.getDuration()));
+        booking.setGuests(guests);
+        booking.setTotalAmount(tour.getPrice().multiply(BigDecimal.valueOf(guests)));
+        booking.setPaymentMethod("CARD");
+        return booking;
+    }
+}